@@ -0,0 +1,169 @@
+package com.mcmoddev.golems.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mcmoddev.golems.entity.SpongeGolem;
+import com.mcmoddev.golems.entity.StrawGolem;
+import com.mcmoddev.golems.entity.ai.PlaceBlocksGoal;
+import com.mcmoddev.golems.events.IceGolemFreezeEvent;
+import com.mcmoddev.golems.events.SpongeGolemSoakEvent;
+import com.mcmoddev.golems.util.area.AsyncAreaScanner;
+import com.mcmoddev.golems.util.area.OffsetTable;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.Bootstrap;
+
+/**
+ * Benchmarks the block scans behind golem area effects on a {@link FakeWorld},
+ * so they run without a server or any golems. Only the scans are measured;
+ * nothing is written to the world. The golem stands at the same place in every
+ * terrain: in the water of the ocean, and on the ground of the mixed terrain.
+ * <p>
+ * For scans on worker threads, only the work left on the server thread is
+ * measured: copying the sections when the scan is submitted, and collecting the
+ * result. Compare their sum with {@link #freeze()}. No worker threads are
+ * started, so the copy is measured with a task that does nothing.
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AreaEffectBenchmark {
+
+  /** The block below the golem **/
+  private static final BlockPos CENTER = new BlockPos(0, FakeWorld.SEA_LEVEL - 1, 0);
+  /** The height of a sponge golem, rounded up **/
+  private static final int SPONGE_HEIGHT = 2;
+
+  @Param({ "2", "4", "8", "16" })
+  public int radius;
+
+  @Param({ "OCEAN", "MIXED", "EMPTY" })
+  public FakeWorld.Terrain terrain;
+
+  private FakeWorld world;
+  private IceGolemFreezeEvent.DefaultFreezeFunction freezeFunction;
+  private PlaceBlocksGoal placeGoal;
+  private Random random;
+  private OffsetTable disc;
+  /** A finished Ice Golem scan, collected again by each call **/
+  private AsyncAreaScanner.PendingScan freezeScan;
+
+  private final LongArrayList positions = new LongArrayList();
+  private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+  private final LongOpenHashSet visited = new LongOpenHashSet();
+  private final BlockPos.Mutable pos = new BlockPos.Mutable();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // registers the vanilla blocks without starting a game, the same way the
+    // vanilla data generator does. No mods are loaded, so only vanilla blocks
+    // may be used here.
+    Bootstrap.register();
+    this.world = FakeWorld.create(terrain);
+    // fail now if the blocks were not set up, instead of measuring empty scans
+    if (terrain != FakeWorld.Terrain.EMPTY && world.getBlockState(CENTER).isAir()) {
+      throw new IllegalStateException("The " + terrain + " terrain was not built, the vanilla blocks were not registered");
+    }
+    if (terrain == FakeWorld.Terrain.OCEAN && !IceGolemFreezeEvent.DefaultFreezeFunction.isFreezable(world.getBlockState(CENTER))) {
+      throw new IllegalStateException("The ocean is not made of water, the vanilla blocks are missing their properties");
+    }
+    this.random = new Random(0);
+    this.freezeFunction = new IceGolemFreezeEvent.DefaultFreezeFunction(random, false, IceGolemFreezeEvent.ICE_CHANCE,
+        IceGolemFreezeEvent.COBBLE_CHANCE);
+    // the same plants and soils as the Melon Golem
+    final Block[] soils = { Blocks.DIRT, Blocks.GRASS_BLOCK, Blocks.MYCELIUM, Blocks.PODZOL };
+    final BlockState[] flowers = { Blocks.POPPY.getDefaultState(), Blocks.DANDELION.getDefaultState() };
+    this.placeGoal = new PlaceBlocksGoal(null, 1, flowers, soils, true);
+    // without worker threads, the scan runs during submit
+    AsyncAreaScanner.setThreads(0);
+    this.disc = OffsetTable.disc(radius);
+    this.freezeScan = AsyncAreaScanner.submit(world, CENTER, disc, IceGolemFreezeEvent.DefaultFreezeFunction::isFreezable, null);
+  }
+
+  /** The positions an Ice Golem would freeze, checking the whole disc **/
+  @Benchmark
+  public int freeze() {
+    IceGolemFreezeEvent.findAffectedPositions(world, CENTER, radius, freezeFunction, null, null, positions);
+    return positions.size();
+  }
+
+  /** The server thread's part of submitting an Ice Golem scan to a worker thread **/
+  @Benchmark
+  public AsyncAreaScanner.PendingScan freezeAsyncSubmit() {
+    return AsyncAreaScanner.submit(world, CENTER, disc.getRadiusX(), disc.getRadiusY(), disc.getRadiusZ(),
+        IceGolemFreezeEvent.DefaultFreezeFunction::isFreezable, (snapshot, out) -> {
+          // the worker's part is not measured
+        });
+  }
+
+  /** The server thread's part of collecting an Ice Golem scan from a worker thread **/
+  @Benchmark
+  public int freezeAsyncCollect() {
+    positions.clear();
+    freezeScan.collect(positions);
+    return positions.size();
+  }
+
+  /** The positions a Sponge Golem event would absorb, checking the whole sphere **/
+  @Benchmark
+  public int soak() {
+    positions.clear();
+    SpongeGolemSoakEvent.findAffectedPositions(world, CENTER, radius, SpongeGolemSoakEvent.DEFAULT_ABSORB_FUNCTION, null, positions);
+    return positions.size();
+  }
+
+  /** The water a Sponge Golem would absorb, found with a flood fill from the golem **/
+  @Benchmark
+  public int soakFloodFill() {
+    positions.clear();
+    frontier.clear();
+    visited.clear();
+    SpongeGolem.SoakWaterGoal.seedFill(CENTER, SPONGE_HEIGHT, frontier, visited);
+    SpongeGolem.SoakWaterGoal.fill(world, CENTER, OffsetTable.sphere(radius), null, frontier, visited, pos, Integer.MAX_VALUE, positions);
+    return positions.size();
+  }
+
+  /** The search for a crop that a Straw Golem would grow **/
+  @Benchmark
+  public BlockPos boostCrop() {
+    return StrawGolem.BoostCropGoal.findCrop(world, CENTER, radius, random);
+  }
+
+  /** Whether a planting golem could plant at each position in range **/
+  @Benchmark
+  public int placeBlocks() {
+    int count = 0;
+    for (int x = -radius; x <= radius; x++) {
+      for (int z = -radius; z <= radius; z++) {
+        if (placeGoal.canPlantAt(world, pos.setPos(CENTER.getX() + x, CENTER.getY(), CENTER.getZ() + z))) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
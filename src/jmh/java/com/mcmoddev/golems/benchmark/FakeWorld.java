@@ -0,0 +1,269 @@
+package com.mcmoddev.golems.benchmark;
+
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.CropsBlock;
+import net.minecraft.entity.Entity;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.world.DimensionType;
+import net.minecraft.world.IWorldReader;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeManager;
+import net.minecraft.world.border.WorldBorder;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.gen.Heightmap;
+import net.minecraft.world.lighting.WorldLightManager;
+
+/**
+ * A small world that only exists in memory, for benchmarking golem area
+ * effects without a server. The blocks are kept in chunk sections, the same
+ * as a real world, so scans that check a section's palette behave the same
+ * way. There are no entities, tile entities, biomes, or light. Only the chunks
+ * from -{@link #RADIUS} to {@link #RADIUS} - 1 exist; every other chunk is
+ * reported as not loaded.
+ **/
+public final class FakeWorld implements IWorldReader {
+
+  /** The number of chunks on each side of the origin **/
+  public static final int RADIUS = 2;
+  /** The sea level. The ground in the mixed terrain is just below it. **/
+  public static final int SEA_LEVEL = 63;
+
+  private final ChunkPrimer[] chunks = new ChunkPrimer[RADIUS * 2 * RADIUS * 2];
+  private final WorldBorder worldBorder = new WorldBorder();
+
+  public FakeWorld() {
+    for (int cx = -RADIUS; cx < RADIUS; cx++) {
+      for (int cz = -RADIUS; cz < RADIUS; cz++) {
+        chunks[index(cx, cz)] = new ChunkPrimer(new ChunkPos(cx, cz), UpgradeData.EMPTY);
+      }
+    }
+  }
+
+  /**
+   * @param terrain the terrain to build
+   * @return a new world filled with the terrain
+   **/
+  public static FakeWorld create(final Terrain terrain) {
+    final FakeWorld world = new FakeWorld();
+    terrain.fillWorld(world);
+    return world;
+  }
+
+  private static int index(final int cx, final int cz) {
+    return (cx + RADIUS) * RADIUS * 2 + (cz + RADIUS);
+  }
+
+  private static boolean isInside(final int cx, final int cz) {
+    return cx >= -RADIUS && cx < RADIUS && cz >= -RADIUS && cz < RADIUS;
+  }
+
+  /**
+   * Changes a block without updating heightmaps, light, or neighbors.
+   *
+   * @param x     the x position
+   * @param y     the y position, from 0 to 255
+   * @param z     the z position
+   * @param state the new state
+   **/
+  public void setBlockState(final int x, final int y, final int z, final BlockState state) {
+    final ChunkPrimer chunk = chunks[index(x >> 4, z >> 4)];
+    if (state.isAir() && ChunkSection.isEmpty(chunk.getSections()[y >> 4])) {
+      return;
+    }
+    chunk.getSection(y >> 4).setBlockState(x & 15, y & 15, z & 15, state, false);
+  }
+
+  /**
+   * Fills a column of blocks.
+   *
+   * @param x     the x position
+   * @param z     the z position
+   * @param minY  the lowest y position to fill
+   * @param maxY  the highest y position to fill
+   * @param state the state to fill with
+   **/
+  public void fill(final int x, final int z, final int minY, final int maxY, final BlockState state) {
+    for (int y = minY; y <= maxY; y++) {
+      setBlockState(x, y, z, state);
+    }
+  }
+
+  @Override
+  @Nullable
+  public IChunk getChunk(final int x, final int z, final ChunkStatus requiredStatus, final boolean nonnull) {
+    return isInside(x, z) ? chunks[index(x, z)] : null;
+  }
+
+  @Override
+  public boolean chunkExists(final int chunkX, final int chunkZ) {
+    return isInside(chunkX, chunkZ);
+  }
+
+  @Override
+  public BlockState getBlockState(final BlockPos pos) {
+    if (pos.getY() < 0 || pos.getY() > 255 || !isInside(pos.getX() >> 4, pos.getZ() >> 4)) {
+      return Blocks.AIR.getDefaultState();
+    }
+    return chunks[index(pos.getX() >> 4, pos.getZ() >> 4)].getBlockState(pos);
+  }
+
+  @Override
+  public FluidState getFluidState(final BlockPos pos) {
+    return getBlockState(pos).getFluidState();
+  }
+
+  @Override
+  @Nullable
+  public TileEntity getTileEntity(final BlockPos pos) {
+    return null;
+  }
+
+  @Override
+  public int getHeight(final Heightmap.Type heightmapType, final int x, final int z) {
+    final BlockPos.Mutable pos = new BlockPos.Mutable(x, 255, z);
+    while (pos.getY() > 0 && getBlockState(pos).isAir()) {
+      pos.move(Direction.DOWN);
+    }
+    return pos.getY() + 1;
+  }
+
+  @Override
+  public int getSkylightSubtracted() {
+    return 0;
+  }
+
+  @Override
+  @Nullable
+  public BiomeManager getBiomeManager() {
+    return null;
+  }
+
+  @Override
+  @Nullable
+  public Biome getNoiseBiomeRaw(final int x, final int y, final int z) {
+    return null;
+  }
+
+  @Override
+  public boolean isRemote() {
+    return false;
+  }
+
+  @Override
+  public int getSeaLevel() {
+    return SEA_LEVEL;
+  }
+
+  @Override
+  @Nullable
+  public DimensionType getDimensionType() {
+    return null;
+  }
+
+  // getShade
+  @Override
+  public float func_230487_a_(final Direction direction, final boolean shade) {
+    return 1.0F;
+  }
+
+  @Override
+  @Nullable
+  public WorldLightManager getLightManager() {
+    return null;
+  }
+
+  @Override
+  public WorldBorder getWorldBorder() {
+    return worldBorder;
+  }
+
+  // getEntityCollisions
+  @Override
+  public Stream<VoxelShape> func_230318_c_(@Nullable final Entity entity, final AxisAlignedBB aabb, final Predicate<Entity> predicate) {
+    return Stream.empty();
+  }
+
+  /**
+   * The kinds of terrain that a {@link FakeWorld} can be filled with. Each one
+   * is flat, and the same every time it is built.
+   **/
+  public enum Terrain {
+    /** Water down to y = 48 over sand, with some kelp and seagrass **/
+    OCEAN {
+      @Override
+      protected void build(final FakeWorld world, final int x, final int z, final int hash) {
+        world.fill(x, z, 0, 39, Blocks.STONE.getDefaultState());
+        world.fill(x, z, 40, 47, Blocks.SAND.getDefaultState());
+        world.fill(x, z, 48, SEA_LEVEL - 1, Blocks.WATER.getDefaultState());
+        if (hash < 2) {
+          world.fill(x, z, 48, 53, Blocks.KELP_PLANT.getDefaultState());
+          world.setBlockState(x, 54, z, Blocks.KELP.getDefaultState());
+        } else if (hash < 4) {
+          world.setBlockState(x, 48, z, Blocks.SEAGRASS.getDefaultState());
+        }
+      }
+    },
+    /** Grass over dirt, with small pools of water and lava, and fields of wheat **/
+    MIXED {
+      @Override
+      protected void build(final FakeWorld world, final int x, final int z, final int hash) {
+        final int top = SEA_LEVEL - 1;
+        world.fill(x, z, 0, top - 5, Blocks.STONE.getDefaultState());
+        world.fill(x, z, top - 4, top - 1, Blocks.DIRT.getDefaultState());
+        if (hash < 2) {
+          world.fill(x, z, top - 2, top, Blocks.WATER.getDefaultState());
+        } else if (hash < 3) {
+          world.setBlockState(x, top, z, Blocks.LAVA.getDefaultState());
+        } else if (hash < 5) {
+          world.setBlockState(x, top, z, Blocks.FARMLAND.getDefaultState());
+          world.setBlockState(x, top + 1, z, Blocks.WHEAT.getDefaultState().with(CropsBlock.AGE, (hash + x) & 7));
+        } else {
+          world.setBlockState(x, top, z, Blocks.GRASS_BLOCK.getDefaultState());
+        }
+      }
+    },
+    /** Nothing but air **/
+    EMPTY {
+      @Override
+      protected void build(final FakeWorld world, final int x, final int z, final int hash) {
+        // leave every section empty
+      }
+    };
+
+    /**
+     * Builds a single column.
+     *
+     * @param world the world
+     * @param x     the x position
+     * @param z     the z position
+     * @param hash  a number from 0 to 9 that is the same for each run
+     **/
+    protected abstract void build(FakeWorld world, int x, int z, int hash);
+
+    private void fillWorld(final FakeWorld world) {
+      final int min = -RADIUS * 16;
+      final int max = RADIUS * 16;
+      for (int x = min; x < max; x++) {
+        for (int z = min; z < max; z++) {
+          build(world, x, z, Math.floorMod(x * 31 + z * 17 + (x * z) % 7, 10));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.mcmoddev.golems.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mcmoddev.golems.entity.GenericGolem;
+import com.mcmoddev.golems.util.GolemContainer;
+import com.mcmoddev.golems.util.GolemRegistrar;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.EntityType;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.tags.ITag;
+import net.minecraft.tags.ITagCollection;
+import net.minecraft.tags.ITagCollectionSupplier;
+import net.minecraft.tags.Tag;
+import net.minecraft.tags.TagCollectionManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraftforge.registries.ForgeRegistries;
+
+/**
+ * Benchmarks golem lookup and the per-container building block queries against
+ * a synthetic registry. Every fifth container is built from a Block Tag instead
+ * of a list of blocks. Each registry size runs in its own forked JVM because the
+ * registry can only be frozen once.
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GolemRegistryBenchmark {
+
+  /** The number of building blocks in each synthetic Block Tag **/
+  private static final int TAG_SIZE = 16;
+
+  @Param({ "50", "200", "1000" })
+  public int containers;
+
+  private Block[] hit;
+  private Block[] miss;
+  private GolemContainer blockContainer;
+  private GolemContainer tagContainer;
+  private Item healItem;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // registers the vanilla blocks without starting a game, the same way the
+    // vanilla data generator does
+    Bootstrap.register();
+    final List<Block> blocks = new ArrayList<>(ForgeRegistries.BLOCKS.getValues());
+    blocks.remove(Blocks.AIR);
+    if (blocks.isEmpty()) {
+      throw new IllegalStateException("The block registry is empty, the vanilla blocks were not registered");
+    }
+    // make the Block Tags first so they can be installed all at once
+    final Map<ResourceLocation, ITag<Block>> tags = new HashMap<>();
+    for (int i = 0; i < containers; i += 5) {
+      final Set<Block> contents = new LinkedHashSet<>();
+      for (int j = 0; j < TAG_SIZE; j++) {
+        contents.add(blocks.get((i * 7 + j * 13) % blocks.size()));
+      }
+      tags.put(tagName(i), Tag.getTagFromContents(contents));
+    }
+    installBlockTags(tags);
+    // register the synthetic golems
+    for (int i = 0; i < containers; i++) {
+      final GolemContainer.Builder builder = new GolemContainer.Builder("benchmark_" + i, GenericGolem.class, GenericGolem::new)
+          .setModId("golems_benchmark");
+      if (i % 5 == 0) {
+        builder.addBlocks(tagName(i));
+      } else {
+        builder.addBlocks(blocks.get(i % blocks.size()), blocks.get((i * 3 + 1) % blocks.size()));
+      }
+      if (i % 10 == 0) {
+        builder.addHealItem(Items.APPLE, 0.25D);
+      }
+      GolemRegistrar.registerGolem(builder.build());
+    }
+    GolemRegistrar.freeze();
+    // pick golems in the middle of the registry
+    final int middle = (containers / 2) - ((containers / 2) % 5);
+    this.tagContainer = GolemRegistrar.getContainer(new ResourceLocation("golems_benchmark", "benchmark_" + middle));
+    this.blockContainer = GolemRegistrar.getContainer(new ResourceLocation("golems_benchmark", "benchmark_" + (middle + 1)));
+    final Block b = this.blockContainer.getPrimaryBuildingBlock();
+    this.hit = new Block[] { b, b, b, b };
+    this.miss = new Block[] { Blocks.BEDROCK, Blocks.BEDROCK, Blocks.BEDROCK, Blocks.BEDROCK };
+    this.healItem = this.tagContainer.getPrimaryBuildingBlock().asItem();
+  }
+
+  @Benchmark
+  public GolemContainer getGolemHit() {
+    return GolemRegistrar.getContainer(hit[0], hit[1], hit[2], hit[3]);
+  }
+
+  @Benchmark
+  public GolemContainer getGolemMiss() {
+    return GolemRegistrar.getContainer(miss[0], miss[1], miss[2], miss[3]);
+  }
+
+  @Benchmark
+  public boolean areBuildingBlocks() {
+    return blockContainer.areBuildingBlocks(hit[0], hit[1], hit[2], hit[3]);
+  }
+
+  @Benchmark
+  public void getBuildingBlocks(final Blackhole bh) {
+    bh.consume(blockContainer.getBuildingBlocks());
+    bh.consume(tagContainer.getBuildingBlocks());
+  }
+
+  @Benchmark
+  public double getHealAmount() {
+    return tagContainer.getHealAmount(healItem);
+  }
+
+  @Benchmark
+  public Block getPrimaryBuildingBlock() {
+    return tagContainer.getPrimaryBuildingBlock();
+  }
+
+  private static ResourceLocation tagName(final int i) {
+    return new ResourceLocation("golems_benchmark", "tag_" + i);
+  }
+
+  /**
+   * Replaces the current Block Tags with the given ones, leaving the other tag
+   * collections empty.
+   **/
+  private static void installBlockTags(final Map<ResourceLocation, ITag<Block>> tags) {
+    final ITagCollection<Block> blockTags = ITagCollection.getTagCollectionFromMap(tags);
+    final ITagCollection<Item> itemTags = ITagCollection.getTagCollectionFromMap(new HashMap<>());
+    final ITagCollection<Fluid> fluidTags = ITagCollection.getTagCollectionFromMap(new HashMap<>());
+    final ITagCollection<EntityType<?>> entityTags = ITagCollection.getTagCollectionFromMap(new HashMap<>());
+    TagCollectionManager.setManager(ITagCollectionSupplier.getTagCollectionSupplier(blockTags, itemTags, fluidTags, entityTags));
+  }
+}
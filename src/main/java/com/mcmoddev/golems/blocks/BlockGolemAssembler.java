@@ -0,0 +1,104 @@
+package com.mcmoddev.golems.blocks;
+
+import com.mcmoddev.golems.tileentity.TileEntityGolemAssembler;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.HorizontalBlock;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.InventoryHelper;
+import net.minecraft.inventory.container.Container;
+import net.minecraft.inventory.container.INamedContainerProvider;
+import net.minecraft.item.BlockItemUseContext;
+import net.minecraft.item.ItemStack;
+import net.minecraft.state.StateContainer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ActionResultType;
+import net.minecraft.util.Direction;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
+
+/**
+ * A block that holds the items needed to build a golem and spawns the golem in
+ * front of itself, without placing any blocks in the world.
+ *
+ * @see TileEntityGolemAssembler
+ **/
+public final class BlockGolemAssembler extends HorizontalBlock {
+
+  public BlockGolemAssembler() {
+    super(Block.Properties.from(Blocks.DISPENSER));
+    this.setDefaultState(this.getStateContainer().getBaseState().with(HORIZONTAL_FACING, Direction.NORTH));
+  }
+
+  @Override
+  public BlockState getStateForPlacement(BlockItemUseContext context) {
+    return this.getDefaultState().with(HORIZONTAL_FACING, context.getPlacementHorizontalFacing().getOpposite());
+  }
+
+  @Override
+  protected void fillStateContainer(StateContainer.Builder<Block, BlockState> builder) {
+    builder.add(HORIZONTAL_FACING);
+  }
+
+  @Override
+  public boolean hasTileEntity(final BlockState state) {
+    return true;
+  }
+
+  @Override
+  public TileEntity createTileEntity(final BlockState state, final IBlockReader world) {
+    return new TileEntityGolemAssembler();
+  }
+
+  @Override
+  public ActionResultType onBlockActivated(BlockState state, World worldIn, BlockPos pos, PlayerEntity player, Hand handIn,
+      BlockRayTraceResult hit) {
+    if (!worldIn.isRemote()) {
+      final TileEntity tileEntity = worldIn.getTileEntity(pos);
+      if (tileEntity instanceof INamedContainerProvider) {
+        player.openContainer((INamedContainerProvider) tileEntity);
+      }
+    }
+    return worldIn.isRemote() ? ActionResultType.SUCCESS : ActionResultType.CONSUME;
+  }
+
+  @Override
+  public void onBlockPlacedBy(World worldIn, BlockPos pos, BlockState state, LivingEntity placer, ItemStack stack) {
+    super.onBlockPlacedBy(worldIn, pos, state, placer, stack);
+    if (stack.hasDisplayName()) {
+      final TileEntity tileEntity = worldIn.getTileEntity(pos);
+      if (tileEntity instanceof TileEntityGolemAssembler) {
+        ((TileEntityGolemAssembler) tileEntity).setCustomName(stack.getDisplayName());
+      }
+    }
+  }
+
+  @Override
+  public void onReplaced(BlockState state, World worldIn, BlockPos pos, BlockState newState, boolean isMoving) {
+    if (state.getBlock() != newState.getBlock()) {
+      final TileEntity tileEntity = worldIn.getTileEntity(pos);
+      if (tileEntity instanceof IInventory) {
+        InventoryHelper.dropInventoryItems(worldIn, pos, (IInventory) tileEntity);
+        worldIn.updateComparatorOutputLevel(pos, this);
+      }
+      super.onReplaced(state, worldIn, pos, newState, isMoving);
+    }
+  }
+
+  @Override
+  public boolean hasComparatorInputOverride(final BlockState state) {
+    return true;
+  }
+
+  @Override
+  public int getComparatorInputOverride(final BlockState blockState, final World worldIn, final BlockPos pos) {
+    return Container.calcRedstone(worldIn.getTileEntity(pos));
+  }
+}
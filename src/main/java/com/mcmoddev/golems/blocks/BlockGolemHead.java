@@ -4,6 +4,9 @@ import javax.annotation.Nullable;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.main.ExtraGolems;
+import com.mcmoddev.golems.util.GolemContainer;
+import com.mcmoddev.golems.util.GolemPattern;
+import com.mcmoddev.golems.util.GolemPatternMatcher;
 import com.mcmoddev.golems.util.GolemRegistrar;
 
 import net.minecraft.block.Block;
@@ -87,86 +90,101 @@ public final class BlockGolemHead extends HorizontalBlock {
       return false;
     }
 
-    // get all the block and state values that we will be using in the following
-    // code
-    final BlockState stateBelow1 = world.getBlockState(headPos.down(1));
-    final BlockState stateBelow2 = world.getBlockState(headPos.down(2));
-    final BlockState stateArmNorth = world.getBlockState(headPos.down(1).north(1));
-    final BlockState stateArmSouth = world.getBlockState(headPos.down(1).south(1));
-    final BlockState stateArmEast = world.getBlockState(headPos.down(1).east(1));
-    final BlockState stateArmWest = world.getBlockState(headPos.down(1).west(1));
-    final Block blockBelow1 = stateBelow1.getBlock();
-    final Block blockBelow2 = stateBelow2.getBlock();
-    final Block blockArmNorth = stateArmNorth.getBlock();
-    final Block blockArmSouth = stateArmSouth.getBlock();
-    final Block blockArmEast = stateArmEast.getBlock();
-    final Block blockArmWest = stateArmWest.getBlock();
+    // read every block that is used by any golem pattern all at once
+    final GolemPatternMatcher matcher = GolemRegistrar.getPatternMatcher();
+    final BlockState[] area = matcher.read(world, headPos);
     // this is where the golem will spawn at the end
     final double spawnX = headPos.getX() + 0.5D;
-    final double spawnY = headPos.getY() - 1.95D;
     final double spawnZ = headPos.getZ() + 0.5D;
-    // true if the golem is East-West aligned
-    boolean flagX;
-    // true if the golem is completely Iron Blocks
-    boolean isIron;
 
     ////// Hard-coded support for Snow Golem //////
-    if (doBlocksMatch(Blocks.SNOW_BLOCK, blockBelow1, blockBelow2)) {
-      removeGolemBody(world, headPos);
+    int orientation = matcher.findFixedMatch(area, GolemPattern.SNOW_GOLEM);
+    if (orientation >= 0) {
+      removeGolemBlocks(world, GolemPatternMatcher.getPositions(headPos, GolemPattern.SNOW_GOLEM, orientation));
       final SnowGolemEntity entitysnowman = EntityType.SNOW_GOLEM.create(world);
       ExtraGolems.LOGGER.info("[Extra Golems]: Building regular boring Snow Golem");
-      entitysnowman.setLocationAndAngles(spawnX, spawnY, spawnZ, 0.0F, 0.0F);
+      entitysnowman.setLocationAndAngles(spawnX, getSpawnY(headPos, GolemPattern.SNOW_GOLEM), spawnZ, 0.0F, 0.0F);
       world.addEntity(entitysnowman);
       return true;
     }
 
     ////// Hard-coded support for Iron Golem //////
-    isIron = doBlocksMatch(Blocks.IRON_BLOCK, blockBelow1, blockBelow2, blockArmNorth, blockArmSouth);
-    flagX = false;
-    if (!isIron) {
-      // try to find an Iron Golem east-west aligned
-      isIron = doBlocksMatch(Blocks.IRON_BLOCK, blockBelow1, blockBelow2, blockArmEast, blockArmWest);
-      flagX = true;
-    }
-
-    if (isIron) {
-      removeAllGolemBlocks(world, headPos, flagX);
+    orientation = matcher.findFixedMatch(area, GolemPattern.IRON_GOLEM);
+    if (orientation >= 0) {
+      removeGolemBlocks(world, GolemPatternMatcher.getPositions(headPos, GolemPattern.IRON_GOLEM, orientation));
       // build Iron Golem
       final IronGolemEntity ironGolem = EntityType.IRON_GOLEM.create(world);
       ExtraGolems.LOGGER.info("[Extra Golems]: Building regular boring Iron Golem");
       ironGolem.setPlayerCreated(true);
-      ironGolem.setLocationAndAngles(spawnX, spawnY, spawnZ, 0.0F, 0.0F);
+      ironGolem.setLocationAndAngles(spawnX, getSpawnY(headPos, GolemPattern.IRON_GOLEM), spawnZ, 0.0F, 0.0F);
       world.addEntity(ironGolem);
       return true;
     }
 
-    if (isInvalidBlock(blockBelow1) || isInvalidBlock(blockBelow2)) {
-      return false;
-    }
-
     ////// Attempt to spawn a Golem from this mod //////
-    GolemBase golem = GolemRegistrar.getGolem(world, blockBelow1, blockBelow2, blockArmNorth, blockArmSouth);
-    flagX = false;
-    // if no golem found for North-South, try to find one for East-West pattern
-    if (golem == null) {
-      golem = GolemRegistrar.getGolem(world, blockBelow1, blockBelow2, blockArmEast, blockArmWest);
-      flagX = true;
-    }
-
-    if (golem != null && golem.getGolemContainer().isEnabled()) {
-      // spawn the golem!
-      removeAllGolemBlocks(world, headPos, flagX);
-      golem.setPlayerCreated(true);
-      golem.setLocationAndAngles(spawnX, spawnY, spawnZ, 0.0F, 0.0F);
-      ExtraGolems.LOGGER.debug("[Extra Golems]: Building golem " + golem.toString());
-      world.addEntity(golem);
-      golem.onBuilt(stateBelow1, stateBelow2, flagX ? stateArmEast : stateArmWest, flagX ? stateArmNorth : stateArmSouth);
-      return true;
+    // reused by each orientation of patterns with the same number of building blocks
+    BlockState[] states = null;
+    Block[] blocks = null;
+    for (final GolemPattern pattern : matcher.getPatterns()) {
+      if (states == null || states.length != pattern.getBuildingBlockCount()) {
+        states = new BlockState[pattern.getBuildingBlockCount()];
+        blocks = new Block[states.length];
+      }
+      for (orientation = 0; orientation < pattern.getOrientations().size(); orientation++) {
+        if (!matcher.matchesFixed(area, pattern, orientation)) {
+          continue;
+        }
+        matcher.getBuildingStates(area, pattern, orientation, states);
+        GolemPatternMatcher.getBlocks(states, blocks);
+        if (hasInvalidBlock(blocks)) {
+          continue;
+        }
+        final GolemContainer container = GolemRegistrar.getContainer(pattern, blocks);
+        if (container == null || !container.isEnabled()) {
+          continue;
+        }
+        final GolemBase golem = container.getEntityType().create(world);
+        if (golem == null) {
+          continue;
+        }
+        // spawn the golem!
+        removeGolemBlocks(world, GolemPatternMatcher.getPositions(headPos, pattern, orientation));
+        golem.setPlayerCreated(true);
+        golem.setLocationAndAngles(spawnX, getSpawnY(headPos, pattern), spawnZ, 0.0F, 0.0F);
+        ExtraGolems.LOGGER.debug("[Extra Golems]: Building golem " + golem.toString());
+        world.addEntity(golem);
+        if (pattern == GolemPattern.DEFAULT) {
+          // the arms are passed in the same order as before golem patterns existed
+          final boolean flagX = orientation != 0;
+          golem.onBuilt(states[0], states[1], matcher.getState(area, flagX ? 1 : -1, -1, 0), matcher.getState(area, 0, -1, flagX ? -1 : 1));
+        } else {
+          // body, legs, and two arms (using the body when there are not enough blocks)
+          golem.onBuilt(states[0], getOrDefault(states, 1), getOrDefault(states, 2), getOrDefault(states, 3));
+        }
+        return true;
+      }
     }
     // No Golems of any kind were spawned :(
     return false;
   }
 
+  /**
+   * @param head    the position of the golem head
+   * @param pattern the pattern that was built
+   * @return the Y position at the bottom of the lowest layer of the pattern
+   **/
+  private static double getSpawnY(final BlockPos head, final GolemPattern pattern) {
+    return head.getY() - (pattern.getHeight() - 1) + 0.05D;
+  }
+
+  /**
+   * @return the BlockState at the given index, or the first BlockState if the
+   *         index is out of bounds
+   **/
+  private static BlockState getOrDefault(final BlockState[] states, final int index) {
+    return index < states.length ? states[index] : states[0];
+  }
+
   /**
    * @param master  the Block to check against
    * @param toCheck other Block values that you want to ensure are equal
@@ -184,29 +202,61 @@ public final class BlockGolemHead extends HorizontalBlock {
    * Replaces this block and the four construction blocks with air.
    **/
   public static void removeAllGolemBlocks(final World world, final BlockPos pos, final boolean isXAligned) {
-    removeGolemBody(world, pos);
-    removeGolemArms(world, pos, isXAligned);
+    final BlockPos body = pos.down(1);
+    if (isXAligned) {
+      removeGolemBlocks(world, pos, body, body.down(1), body.west(1), body.east(1));
+    } else {
+      removeGolemBlocks(world, pos, body, body.down(1), body.north(1), body.south(1));
+    }
   }
 
   /**
    * Replaces this block and the two below it with air.
    **/
   public static void removeGolemBody(final World world, final BlockPos head) {
-    world.destroyBlock(head, false);
-    world.destroyBlock(head.down(1), false);
-    world.destroyBlock(head.down(2), false);
+    removeGolemBlocks(world, head, head.down(1), head.down(2));
   }
 
   /**
    * Replaces blocks at arm positions with air.
    **/
   public static void removeGolemArms(final World world, final BlockPos pos, final boolean isXAligned) {
+    final BlockPos body = pos.down(1);
     if (isXAligned) {
-      world.destroyBlock(pos.down(1).west(1), false);
-      world.destroyBlock(pos.down(1).east(1), false);
+      removeGolemBlocks(world, body.west(1), body.east(1));
     } else {
-      world.destroyBlock(pos.down(1).north(1), false);
-      world.destroyBlock(pos.down(1).south(1), false);
+      removeGolemBlocks(world, body.north(1), body.south(1));
+    }
+  }
+
+  /**
+   * Replaces all of the given blocks with air as a single batch. Every block is
+   * cleared before any neighbors are updated, so the construction blocks do not
+   * update each other, and the changes reach the client together in the next
+   * chunk sync. Only the first position plays the block-break effect.
+   *
+   * @param world     the World
+   * @param positions the block positions to clear
+   **/
+  public static void removeGolemBlocks(final World world, final BlockPos... positions) {
+    final BlockState air = Blocks.AIR.getDefaultState();
+    final BlockState[] removed = new BlockState[positions.length];
+    // clear the blocks without updating neighbors (2 = send to client, 16 = skip neighbor shapes)
+    for (int i = 0; i < positions.length; i++) {
+      removed[i] = world.getBlockState(positions[i]);
+      if (!removed[i].isAir()) {
+        world.setBlockState(positions[i], air, 2 | 16);
+      }
+    }
+    // update the surrounding blocks once everything is cleared
+    for (int i = 0; i < positions.length; i++) {
+      if (!removed[i].isAir()) {
+        world.notifyNeighborsOfStateChange(positions[i], removed[i].getBlock());
+        air.updateNeighbours(world, positions[i], 2);
+      }
+    }
+    if (positions.length > 0 && !removed[0].isAir()) {
+      world.playEvent(2001, positions[0], Block.getStateId(removed[0]));
     }
   }
 
@@ -216,4 +266,16 @@ public final class BlockGolemHead extends HorizontalBlock {
   private static boolean isInvalidBlock(final Block b) {
     return b == null || b == Blocks.AIR || b == Blocks.WATER;
   }
+
+  /**
+   * @return true if any of the blocks should not be considered a golem building block
+   **/
+  private static boolean hasInvalidBlock(final Block[] blocks) {
+    for (final Block b : blocks) {
+      if (isInvalidBlock(b)) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
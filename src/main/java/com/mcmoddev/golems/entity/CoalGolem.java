@@ -13,8 +13,12 @@ public final class CoalGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Blindness";
 
+  /** Resolved once because it is read on every attack **/
+  private final int allowSpecialSlot;
+
   public CoalGolem(final EntityType<? extends GolemBase> entityType, final World world) {
     super(entityType, world);
+    allowSpecialSlot = this.getConfigSlot(ALLOW_SPECIAL);
   }
 
   /**
@@ -24,7 +28,7 @@ public final class CoalGolem extends GolemBase {
   public boolean attackEntityAsMob(final Entity entity) {
     if (super.attackEntityAsMob(entity)) {
       final int BLIND_CHANCE = 2;
-      if (entity instanceof LivingEntity && this.getConfigBool(ALLOW_SPECIAL) && this.rand.nextInt(BLIND_CHANCE) == 0) {
+      if (entity instanceof LivingEntity && this.getConfigBool(allowSpecialSlot) && this.rand.nextInt(BLIND_CHANCE) == 0) {
         ((LivingEntity) entity).addPotionEffect(new EffectInstance(Effects.BLINDNESS, 20 * (3 + rand.nextInt(5)), 0));
       }
       return true;
@@ -6,6 +6,7 @@ import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.entity.base.GolemMultiTextured;
 import com.mcmoddev.golems.main.ExtraGolems;
 import com.mcmoddev.golems.util.GolemTextureBytes;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityType;
@@ -34,6 +35,12 @@ public final class ConcreteGolem extends GolemMultiTextured {
     resist = getConfigBool(ALLOW_RESIST);
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    resist = getConfigBool(ALLOW_RESIST);
+  }
+
   @Override
   protected void damageEntity(DamageSource source, float amount) {
     if (resist && !source.isDamageAbsolute()) {
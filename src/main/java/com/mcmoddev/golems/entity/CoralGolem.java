@@ -7,6 +7,7 @@ import com.mcmoddev.golems.entity.base.GolemMultiTextured;
 import com.mcmoddev.golems.items.ItemBedrockGolem;
 import com.mcmoddev.golems.main.ExtraGolems;
 import com.mcmoddev.golems.util.GolemTextureBytes;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -44,10 +45,10 @@ public final class CoralGolem extends GolemMultiTextured {
   public static final String[] LOOT_TABLES = { "tube", "brain", "bubble", "fire", "horn" };
   public final ResourceLocation[] texturesDry;
   public final ResourceLocation[] lootTablesDry;
-  private final boolean allowHealing;
+  private boolean allowHealing;
 
   // the minimum amount of time before golem will change between "dry" and "wet"
-  private final int maxChangingTime;
+  private int maxChangingTime;
 
   public CoralGolem(final EntityType<? extends GolemBase> entityType, final World world) {
     super(entityType, world, "minecraft", TEXTURE_NAMES, ExtraGolems.MODID, LOOT_TABLES);
@@ -62,6 +63,16 @@ public final class CoralGolem extends GolemMultiTextured {
     maxChangingTime = this.getConfigInt(DRY_TIMER);
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    allowHealing = this.getConfigBool(ALLOW_HEALING);
+    maxChangingTime = this.getConfigInt(DRY_TIMER);
+    if ((delta.healthChanged() || delta.attackChanged()) && this.isDry()) {
+      updateDryAttributes();
+    }
+  }
+
   /** @return whether this golem is dried out or wet **/
   public boolean isDry() {
     return this.getDataManager().get(DRY).booleanValue();
@@ -146,14 +157,7 @@ public final class CoralGolem extends GolemMultiTextured {
       this.setDry(this.getDataManager().get(DRY).booleanValue());
       if (this.isDry()) {
         // adjust values when the golem dries out: less health, less speed, more attack
-        // note how we use mult and div to truncate to a specific number of decimal
-        // places
-        double dryHealth = Math.floor(getGolemContainer().getHealth() * 0.7D * 10D) / 10D;
-        double dryAttack = Math.floor(getGolemContainer().getAttack() * 1.45D * 10D) / 10D;
-        double drySpeed = Math.floor(getGolemContainer().getSpeed() * 0.7D * 100D) / 100D;
-        this.getAttribute(Attributes.MAX_HEALTH).setBaseValue(dryHealth);
-        this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(dryAttack);
-        this.getAttribute(Attributes.MOVEMENT_SPEED).setBaseValue(drySpeed);
+        updateDryAttributes();
         // particle effects to show that the golem is "drying out"
         final Vector3d pos = this.getPositionVec().add(0, 0.2D, 0);
         ItemBedrockGolem.spawnParticles(this.world, pos.x, pos.y, pos.z, 0.09D, ParticleTypes.SMOKE, 80);
@@ -165,6 +169,17 @@ public final class CoralGolem extends GolemMultiTextured {
     }
   }
 
+  /** Sets the base health, attack, and speed for a golem that is dried out **/
+  private void updateDryAttributes() {
+    // note how we use mult and div to truncate to a specific number of decimal places
+    double dryHealth = Math.floor(getGolemContainer().getHealth() * 0.7D * 10D) / 10D;
+    double dryAttack = Math.floor(getGolemContainer().getAttack() * 1.45D * 10D) / 10D;
+    double drySpeed = Math.floor(getGolemContainer().getSpeed() * 0.7D * 100D) / 100D;
+    this.getAttribute(Attributes.MAX_HEALTH).setBaseValue(dryHealth);
+    this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(dryAttack);
+    this.getAttribute(Attributes.MOVEMENT_SPEED).setBaseValue(drySpeed);
+  }
+
   @Override
   public void writeAdditional(final CompoundNBT nbt) {
     super.writeAdditional(nbt);
@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 
 import com.mcmoddev.golems.container.ContainerDispenserGolem;
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -58,7 +59,7 @@ public final class DispenserGolem extends GolemBase implements IRangedAttackMob,
   private int arrowSpeed;
   private Inventory inventory;
 
-  private final RangedAttackGoal aiArrowAttack;
+  private RangedAttackGoal aiArrowAttack;
   private final MeleeAttackGoal aiMeleeAttack;
     
   protected final Predicate<ItemStack> pickUpItemstackPredicate = stack -> {
@@ -90,6 +91,21 @@ public final class DispenserGolem extends GolemBase implements IRangedAttackMob,
     // init inventory
     this.initInventory();
   }
+
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    this.allowArrows = this.getConfigBool(ALLOW_SPECIAL);
+    this.arrowDamage = Math.max(0D, this.getConfigDouble(ARROW_DAMAGE));
+    if (delta.specialChanged(ARROW_SPEED)) {
+      this.arrowSpeed = this.getConfigInt(ARROW_SPEED);
+      this.goalSelector.removeGoal(this.aiArrowAttack);
+      this.aiArrowAttack = new RangedAttackGoal(this, 1.0D, arrowSpeed, 32.0F);
+    }
+    if (delta.specialChanged(ALLOW_SPECIAL) || delta.specialChanged(ARROW_SPEED)) {
+      updateCombatTask();
+    }
+  }
   
   @Override
   protected void registerData() {
@@ -265,6 +281,11 @@ public final class DispenserGolem extends GolemBase implements IRangedAttackMob,
     return this.getDataManager().get(ARROWS).intValue();
   }
 
+  @Override
+  protected boolean isDescriptionKey(final DataParameter<?> key) {
+    return super.isDescriptionKey(key) || ARROWS.equals(key);
+  }
+
   @Override
   public void attackEntityWithRangedAttack(final LivingEntity target, final float distanceFactor) {
     ItemStack itemstack = findArrowsInInventory(this.inventory);
@@ -165,11 +165,20 @@ public class EndstoneGolem extends GolemBase {
    * Teleport the golem.
    **/
   protected boolean teleportTo(final double x, final double y, final double z) {
-    final EndGolemTeleportEvent event = new EndGolemTeleportEvent(this, x, y, z, 0);
-    if (!this.allowTeleport || MinecraftForge.EVENT_BUS.post(event)) {
+    if (!this.allowTeleport) {
       return false;
     }
-    final boolean flag = this.attemptTeleport(event.getTargetX(), event.getTargetY(), event.getTargetZ(), true);
+    final boolean flag;
+    if (EndGolemTeleportEvent.hasListeners()) {
+      final EndGolemTeleportEvent event = new EndGolemTeleportEvent(this, x, y, z, 0);
+      if (MinecraftForge.EVENT_BUS.post(event)) {
+        return false;
+      }
+      flag = this.attemptTeleport(event.getTargetX(), event.getTargetY(), event.getTargetZ(), true);
+    } else {
+      // nothing would receive the event, so skip creating it
+      flag = this.attemptTeleport(x, y, z, true);
+    }
 
     if (flag) {
       this.world.playSound((PlayerEntity) null, this.prevPosX, this.prevPosY, this.prevPosZ, SoundEvents.ENTITY_ENDERMAN_TELEPORT,
@@ -8,6 +8,7 @@ import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.items.ItemBedrockGolem;
 import com.mcmoddev.golems.main.ExtraGolems;
 import com.mcmoddev.golems.util.GolemNames;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -43,13 +44,19 @@ public final class FurnaceGolem extends GolemBase {
 
   public static final String FUEL_FACTOR = "Burn Time";
   public static final int MAX_FUEL = 102400;
-  public final int fuelBurnFactor;
+  public int fuelBurnFactor;
 
   public FurnaceGolem(final EntityType<? extends GolemBase> entityType, final World world) {
     super(entityType, world);
     fuelBurnFactor = Math.max(1, getConfigInt(FUEL_FACTOR));
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    fuelBurnFactor = Math.max(1, getConfigInt(FUEL_FACTOR));
+  }
+
   @Override
   protected void registerData() {
     super.registerData();
@@ -180,6 +187,11 @@ public final class FurnaceGolem extends GolemBase {
     }
   }
 
+  @Override
+  protected boolean isDescriptionKey(final DataParameter<?> key) {
+    return super.isDescriptionKey(key) || FUEL.equals(key);
+  }
+
   class UseFuelGoal extends Goal {
 
     protected UseFuelGoal() {
@@ -1,6 +1,7 @@
 package com.mcmoddev.golems.entity;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -22,6 +23,12 @@ public final class HoneyGolem extends GolemBase {
     allowHoney = this.getConfigBool(ALLOW_HONEY);
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    allowHoney = this.getConfigBool(ALLOW_HONEY);
+  }
+
   @Override
   public boolean attackEntityAsMob(final Entity entityIn) {
     if (super.attackEntityAsMob(entityIn)) {
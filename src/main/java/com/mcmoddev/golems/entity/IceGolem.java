@@ -5,6 +5,14 @@ import java.util.function.Function;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.events.IceGolemFreezeEvent;
+import com.mcmoddev.golems.util.GolemBlockEditQueue;
+import com.mcmoddev.golems.util.area.AreaScanner;
+import com.mcmoddev.golems.util.area.AsyncAreaScanner;
+import com.mcmoddev.golems.util.area.OffsetTable;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
@@ -21,6 +29,8 @@ public final class IceGolem extends GolemBase {
   public static final String AOE = "Area of Effect";
   public static final String FROST = "Use Frosted Ice";
 
+  private FreezeBlocksGoal freezeGoal;
+
   public IceGolem(final EntityType<? extends GolemBase> entityType, final World world) {
     super(entityType, world);
   }
@@ -28,7 +38,18 @@ public final class IceGolem extends GolemBase {
   @Override
   protected void registerGoals() {
     super.registerGoals();
-    this.goalSelector.addGoal(2, new FreezeBlocksGoal(this, this.getConfigInt(AOE), this.getConfigBool(FROST)));
+    freezeGoal = new FreezeBlocksGoal(this, this.getConfigInt(AOE), this.getConfigBool(FROST));
+    this.goalSelector.addGoal(2, freezeGoal);
+  }
+
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    if (delta.specialChanged(AOE) || delta.specialChanged(FROST)) {
+      this.goalSelector.removeGoal(freezeGoal);
+      freezeGoal = new FreezeBlocksGoal(this, this.getConfigInt(AOE), this.getConfigBool(FROST));
+      this.goalSelector.addGoal(2, freezeGoal);
+    }
   }
 
   /**
@@ -56,21 +77,48 @@ public final class IceGolem extends GolemBase {
     return false;
   }
 
+  /**
+   * Freezes water and lava around the golem. Only the part of the disc that
+   * the golem has moved into since the last freeze is checked, and nothing is
+   * checked while the golem stays on the same block. The whole disc is checked
+   * again every {@link #REFRESH_INTERVAL} ticks to catch water that flowed in or
+   * ice that melted, and after the golem moves farther than its range.
+   **/
   public static class FreezeBlocksGoal extends Goal {
 
+    /** Number of ticks between checks of the whole disc **/
+    protected static final int REFRESH_INTERVAL = 20;
+
     protected final GolemBase golem;
     protected final int range;
     protected final boolean frosted;
+    /** Created once and shared by every event this goal fires **/
+    protected final Function<BlockState, BlockState> freezeFunction;
+    /** Filled by each event, then cleared and reused by the next one **/
+    private final LongArrayList positions = new LongArrayList();
+    private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+
+    /** The center of the last disc that was frozen, or null to check the whole disc **/
+    private BlockPos lastCenter;
+    /** The tick when the whole disc was last checked **/
+    private int lastRefresh;
+    /** A scan running on a worker thread, or null **/
+    private AsyncAreaScanner.PendingScan pending;
+    /** True if the scan running on a worker thread checks the whole disc **/
+    private boolean pendingRefresh;
 
     public FreezeBlocksGoal(final GolemBase golemIn, final int rangeIn, final boolean useFrost) {
       golem = golemIn;
       range = rangeIn;
       frosted = useFrost;
+      freezeFunction = new IceGolemFreezeEvent.DefaultFreezeFunction(golemIn.getRNG(), useFrost, IceGolemFreezeEvent.ICE_CHANCE,
+          IceGolemFreezeEvent.COBBLE_CHANCE);
     }
 
     @Override
     public boolean shouldExecute() {
-      return golem.ticksExisted % 2 == 0;
+      // also run as soon as a worker thread has finished
+      return golem.ticksExisted % 2 == 0 || (pending != null && pending.isDone());
     }
 
     @Override
@@ -83,25 +131,113 @@ public final class IceGolem extends GolemBase {
       final BlockPos below = this.golem.getBlockBelow();
 
       if (range > 0) {
-        final IceGolemFreezeEvent event = new IceGolemFreezeEvent(golem, below, range, frosted);
-        if (!MinecraftForge.EVENT_BUS.post(event) && event.getResult() != Event.Result.DENY) {
-          this.freezeBlocks(event.getAffectedPositions(), event.getFunction(), event.updateFlag);
+        if (pending != null) {
+          if (!pending.isDone()) {
+            return;
+          }
+          // the edit queue checks each block again when the edit is applied
+          positions.clear();
+          if (pending.collect(positions)) {
+            lastCenter = pending.getCenter();
+            if (pendingRefresh) {
+              lastRefresh = golem.ticksExisted;
+            }
+            this.freezeBlocks(positions, freezeFunction, 3);
+          } else {
+            // nothing was frozen, so check the whole disc next time
+            lastCenter = null;
+          }
+          pending = null;
+        }
+        final boolean refresh = lastCenter == null || golem.ticksExisted - lastRefresh >= REFRESH_INTERVAL
+            || !lastCenter.withinDistance(below, range);
+        if (!refresh && lastCenter.equals(below)) {
+          // nothing new is in range
+          return;
+        }
+        final BlockPos skipped = refresh ? null : lastCenter;
+        boolean frozen = true;
+        if (IceGolemFreezeEvent.hasListeners()) {
+          final IceGolemFreezeEvent event = new IceGolemFreezeEvent(golem, below, range, freezeFunction, skipped, positions);
+          frozen = !MinecraftForge.EVENT_BUS.post(event) && event.getResult() != Event.Result.DENY;
+          if (frozen) {
+            this.freezeBlocks(event.getAffectedPackedPositions(), event.getFunction(), event.updateFlag);
+          }
+        } else if (AsyncAreaScanner.isEnabled()) {
+          // nothing would receive the event, so find the blocks on a worker thread.
+          // The last center is only moved once the result is collected.
+          pending = submitScan(below, skipped);
+          pendingRefresh = refresh;
+          return;
+        } else {
+          // nothing would receive the event, so skip creating it
+          IceGolemFreezeEvent.findAffectedPositions(golem, below, range, freezeFunction, skipped, positions);
+          this.freezeBlocks(positions, freezeFunction, 3);
+        }
+        if (frozen) {
+          lastCenter = below.toImmutable();
+          if (refresh) {
+            lastRefresh = golem.ticksExisted;
+          }
+        } else {
+          // nothing was frozen, so check the whole disc next time
+          lastCenter = null;
         }
       }
     }
 
+    /**
+     * Starts finding the blocks to freeze on a worker thread. Only blocks that
+     * the default freeze function would change are found.
+     *
+     * @param center  the center of the disc
+     * @param skipped the center of the last disc that was frozen, or null
+     * @return the pending scan
+     **/
+    protected AsyncAreaScanner.PendingScan submitScan(final BlockPos center, final BlockPos skipped) {
+      final OffsetTable disc = OffsetTable.disc(range);
+      AreaScanner.IShape skip = null;
+      if (skipped != null) {
+        final int ox = center.getX() - skipped.getX();
+        final int oy = center.getY() - skipped.getY();
+        final int oz = center.getZ() - skipped.getZ();
+        skip = (dx, dy, dz) -> disc.contains(dx + ox, dy + oy, dz + oz);
+      }
+      return AsyncAreaScanner.submit(golem.getEntityWorld(), center, disc, IceGolemFreezeEvent.DefaultFreezeFunction::isFreezable, skip);
+    }
+
     /**
      * Usually called after creating and firing a {@link IceGolemFreezeEvent}.
      * Iterates through the list of positions and calls
      * {@code apply(BlockState input)} on the passed
-     * {@code Function<BlockState, BlockState>} .
+     * {@code Function<BlockState, BlockState>} . The blocks are changed through
+     * the {@link GolemBlockEditQueue}.
      *
-     * @return whether all setBlockState calls were successful.
+     * @return true if every position got a new edit. False if any position
+     *         already had an edit waiting, or is outside the world.
      **/
     public boolean freezeBlocks(final List<BlockPos> positions, final Function<BlockState, BlockState> function, final int updateFlag) {
+      final GolemBlockEditQueue queue = GolemBlockEditQueue.get(golem.getEntityWorld());
       boolean flag = true;
       for (BlockPos pos : positions) {
-        flag &= golem.getEntityWorld().setBlockState(pos, function.apply(golem.getEntityWorld().getBlockState(pos)), updateFlag);
+        flag &= queue.add(pos, function, updateFlag);
+      }
+      return flag;
+    }
+
+    /**
+     * Same as {@link #freezeBlocks(List, Function, int)} for positions packed
+     * with {@link BlockPos#toLong()}.
+     *
+     * @return true if every position got a new edit. False if any position
+     *         already had an edit waiting, or is outside the world.
+     **/
+    public boolean freezeBlocks(final LongList positions, final Function<BlockState, BlockState> function, final int updateFlag) {
+      final GolemBlockEditQueue queue = GolemBlockEditQueue.get(golem.getEntityWorld());
+      boolean flag = true;
+      for (int i = 0, l = positions.size(); i < l; i++) {
+        mutablePos.setPos(positions.getLong(i));
+        flag &= queue.add(mutablePos, function, updateFlag);
       }
       return flag;
     }
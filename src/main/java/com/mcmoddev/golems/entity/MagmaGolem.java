@@ -1,6 +1,8 @@
 package com.mcmoddev.golems.entity;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.GolemBlockEditQueue;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -53,6 +55,18 @@ public final class MagmaGolem extends GolemBase {
     }
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    this.isHurtByWater = this.getConfigBool(ALLOW_WATER_DAMAGE);
+    this.allowFire = this.getConfigBool(ALLOW_FIRE_SPECIAL);
+    this.allowMelting = this.getConfigBool(ALLOW_LAVA_SPECIAL);
+    this.meltDelay = this.getConfigInt(MELT_DELAY);
+    if (delta.specialChanged(ALLOW_WATER_DAMAGE)) {
+      this.setPathPriority(PathNodeType.WATER, isHurtByWater ? -1.0F : 0.0F);
+    }
+  }
+
   @Override
   public boolean canSwim() {
     return isHurtByWater;
@@ -94,15 +108,15 @@ public final class MagmaGolem extends GolemBase {
       this.attackEntityFrom(DamageSource.DROWN, 0.5F);
     }
     // check the cobblestone-melting math
-    if (this.allowMelting && !this.isChild()) {
+    if (this.allowMelting && !this.isChild() && !this.world.isRemote) {
       final BlockPos below = this.getBlockBelow();
       final Block b1 = this.world.getBlockState(below).getBlock();
 
       if (below.getX() == this.stillX && below.getZ() == this.stillZ) {
         // check if it's been holding still long enough AND on top of cobblestone
         if (++this.ticksStandingStill >= this.meltDelay && b1 == Blocks.COBBLESTONE && rand.nextInt(16) == 0) {
-          BlockState replace = Blocks.MAGMA_BLOCK.getDefaultState();
-          this.world.setBlockState(below, replace, 3);
+          final BlockState replace = Blocks.MAGMA_BLOCK.getDefaultState();
+          GolemBlockEditQueue.get(this.world).add(below, s -> s.getBlock() == Blocks.COBBLESTONE ? replace : s, 3);
           this.ticksStandingStill = 0;
         }
       } else {
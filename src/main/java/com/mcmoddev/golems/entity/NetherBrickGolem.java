@@ -10,8 +10,12 @@ public final class NetherBrickGolem extends GolemBase {
 
   public static final String ALLOW_FIRE_SPECIAL = "Allow Special: Burn Enemies";
 
+  /** Resolved once because it is read on every attack **/
+  private final int allowSpecialSlot;
+
   public NetherBrickGolem(final EntityType<? extends GolemBase> entityType, final World world) {
     super(entityType, world);
+    allowSpecialSlot = this.getConfigSlot(ALLOW_FIRE_SPECIAL);
   }
 
   /**
@@ -20,7 +24,7 @@ public final class NetherBrickGolem extends GolemBase {
   @Override
   public boolean attackEntityAsMob(final Entity entity) {
     if (super.attackEntityAsMob(entity)) {
-      if (this.getConfigBool(ALLOW_FIRE_SPECIAL)) {
+      if (this.getConfigBool(allowSpecialSlot)) {
         entity.setFire(2 + rand.nextInt(5));
       }
       return true;
@@ -3,6 +3,7 @@ package com.mcmoddev.golems.entity;
 import com.mcmoddev.golems.entity.ai.PassiveEffectsGoal;
 import com.mcmoddev.golems.entity.ai.PlaceBlocksGoal;
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -24,6 +25,12 @@ public final class NetherWartGolem extends GolemBase {
     this.allowHealing = this.getConfigBool(ALLOW_HEALING);
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    this.allowHealing = this.getConfigBool(ALLOW_HEALING);
+  }
+
   @Override
   protected void registerGoals() {
     super.registerGoals();
@@ -1,6 +1,7 @@
 package com.mcmoddev.golems.entity;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -24,6 +25,13 @@ public final class SlimeGolem extends GolemBase {
     knockbackAmount = this.getConfigDouble(KNOCKBACK);
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    allowKnockback = this.getConfigBool(ALLOW_SPECIAL);
+    knockbackAmount = this.getConfigDouble(KNOCKBACK);
+  }
+
   @Override
   public boolean attackEntityAsMob(final Entity entity) {
     if (super.attackEntityAsMob(entity)) {
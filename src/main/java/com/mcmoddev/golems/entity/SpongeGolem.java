@@ -3,16 +3,32 @@ package com.mcmoddev.golems.entity;
 import java.util.List;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.events.SpongeGolemSoakEvent;
+import com.mcmoddev.golems.util.GolemBlockEditQueue;
+import com.mcmoddev.golems.util.area.AreaEffectCoordinator;
+import com.mcmoddev.golems.util.area.AreaScanner;
+import com.mcmoddev.golems.util.area.AsyncAreaScanner;
+import com.mcmoddev.golems.util.area.OffsetTable;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.particles.BasicParticleType;
 import net.minecraft.particles.ParticleTypes;
+import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
@@ -22,6 +38,9 @@ public final class SpongeGolem extends GolemBase {
   public static final String ALLOW_SPECIAL = "Allow Special: Absorb Water";
   public static final String INTERVAL = "Water Soaking Frequency";
   public static final String RANGE = "Water Soaking Range";
+  public static final String LIMIT = "Water Soaking Limit";
+
+  private SoakWaterGoal soakGoal;
 
   public SpongeGolem(final EntityType<? extends GolemBase> entityType, final World world) {
     super(entityType, world);
@@ -31,7 +50,23 @@ public final class SpongeGolem extends GolemBase {
   protected void registerGoals() {
     super.registerGoals();
     if (this.getConfigBool(ALLOW_SPECIAL)) {
-      this.goalSelector.addGoal(2, new SoakWaterGoal(this, this.getConfigInt(INTERVAL), this.getConfigInt(RANGE)));
+      soakGoal = new SoakWaterGoal(this, this.getConfigInt(INTERVAL), this.getConfigInt(RANGE), this.getConfigInt(LIMIT));
+      this.goalSelector.addGoal(2, soakGoal);
+    }
+  }
+
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    if (delta.specialChanged(ALLOW_SPECIAL) || delta.specialChanged(INTERVAL) || delta.specialChanged(RANGE) || delta.specialChanged(LIMIT)) {
+      if (soakGoal != null) {
+        this.goalSelector.removeGoal(soakGoal);
+        soakGoal = null;
+      }
+      if (this.getConfigBool(ALLOW_SPECIAL)) {
+        soakGoal = new SoakWaterGoal(this, this.getConfigInt(INTERVAL), this.getConfigInt(RANGE), this.getConfigInt(LIMIT));
+        this.goalSelector.addGoal(2, soakGoal);
+      }
     }
   }
 
@@ -54,21 +89,57 @@ public final class SpongeGolem extends GolemBase {
     }
   }
 
+  /**
+   * Absorbs the body of water that the golem is touching. Water is found with a
+   * flood fill that starts at the golem and only follows connected water, so
+   * dry areas in range are never checked. The fill keeps its frontier between
+   * runs and absorbs at most {@link #limit} blocks each run, picking up where it
+   * left off until the water in range is gone. It starts over when the golem
+   * moves to a different block or the frontier runs out.
+   **/
   public static class SoakWaterGoal extends Goal {
 
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     protected final GolemBase golem;
     protected final int interval;
     protected final int range;
+    protected final int limit;
+
+    /** Packed positions to check next **/
+    private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+    /** Packed positions that have been added to the frontier since the fill started **/
+    private final LongOpenHashSet visited = new LongOpenHashSet();
+    /** Water found by the last run, reused each time **/
+    private final LongArrayList found = new LongArrayList();
+    private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+    /** The position of the golem when the fill started **/
+    private BlockPos fillCenter;
+    /** A flood fill running on a worker thread, or null **/
+    private AsyncAreaScanner.PendingScan pending;
+    /** Water found by the last worker fill, absorbed a few blocks at a time **/
+    private final LongArrayList queued = new LongArrayList();
+    private int queuedIndex;
+    /** The position of the golem when the worker fill started **/
+    private BlockPos queuedCenter;
+    /** True if the last run found no water while waiting for a worker fill **/
+    private boolean waiting;
 
     public SoakWaterGoal(final GolemBase golemIn, final int intervalIn, final int rangeIn) {
+      this(golemIn, intervalIn, rangeIn, Integer.MAX_VALUE);
+    }
+
+    public SoakWaterGoal(final GolemBase golemIn, final int intervalIn, final int rangeIn, final int limitIn) {
       golem = golemIn;
-      interval = Math.min(1, intervalIn);
+      interval = Math.max(1, intervalIn);
       range = rangeIn;
+      limit = Math.max(1, limitIn);
     }
 
     @Override
     public boolean shouldExecute() {
-      return golem.ticksExisted % interval == 0;
+      // also run as soon as a worker thread has finished
+      return golem.ticksExisted % interval == 0 || (pending != null && pending.isDone());
     }
 
     @Override
@@ -79,23 +150,252 @@ public final class SpongeGolem extends GolemBase {
     @Override
     public void startExecuting() {
       final BlockPos center = this.golem.getBlockBelow();
-      final SpongeGolemSoakEvent event = new SpongeGolemSoakEvent(golem, center, range);
+      final LongArrayList positions;
+      if (AsyncAreaScanner.isEnabled() || pending != null) {
+        // absorb the worker's water right away if the last run had nothing to do
+        if (!collectPending() && golem.ticksExisted % interval != 0) {
+          return;
+        }
+        positions = findWaterAsync(center);
+        waiting = positions.isEmpty() && pending != null;
+      } else {
+        if (frontier.isEmpty() || !center.equals(fillCenter)) {
+          startFill(center);
+        }
+        positions = findWater();
+      }
+      if (positions.isEmpty()) {
+        return;
+      }
+      if (!SpongeGolemSoakEvent.hasListeners()) {
+        // nothing would receive the event, so skip creating it
+        this.replaceWater(positions, SpongeGolemSoakEvent.DEFAULT_ABSORB_FUNCTION, 3);
+        return;
+      }
+      final SpongeGolemSoakEvent event = new SpongeGolemSoakEvent(golem, center, range, positions);
       if (!MinecraftForge.EVENT_BUS.post(event) && event.getResult() != Event.Result.DENY) {
-        this.replaceWater(event.getPositionList(), event.getAbsorbFunction(), event.updateFlag);
+        this.replaceWater(event.getPackedPositionList(), event.getAbsorbFunction(), event.updateFlag);
+      }
+    }
+
+    /**
+     * Clears the frontier and fills it with the blocks that the golem is in and
+     * next to.
+     *
+     * @param center the block below the golem
+     **/
+    protected void startFill(final BlockPos center) {
+      frontier.clear();
+      visited.clear();
+      fillCenter = center.toImmutable();
+      seedFill(center, MathHelper.ceil(golem.getHeight()), frontier, visited);
+    }
+
+    /**
+     * Adds the blocks that a golem is in and next to, to start a flood fill.
+     *
+     * @param center   the block below the golem
+     * @param height   the number of blocks above the center to start from
+     * @param frontier the packed positions to check next
+     * @param visited  the packed positions that have been added to the frontier
+     **/
+    public static void seedFill(final BlockPos center, final int height, final LongArrayFIFOQueue frontier, final LongOpenHashSet visited) {
+      for (int y = 0; y <= height; y++) {
+        final long packed = BlockPos.pack(center.getX(), center.getY() + y, center.getZ());
+        enqueue(frontier, visited, packed);
+        for (final Direction d : DIRECTIONS) {
+          enqueue(frontier, visited, BlockPos.offset(packed, d));
+        }
       }
     }
 
+    /**
+     * Takes positions from the frontier until {@link #limit} blocks of water are
+     * found, adding the neighbors of each one to the frontier.
+     *
+     * @return the packed positions of water to absorb. The list is reused the
+     *         next time this is called.
+     **/
+    protected LongArrayList findWater() {
+      found.clear();
+      final World world = golem.getEntityWorld();
+      final OffsetTable sphere = OffsetTable.sphere(range);
+      // water that another sponge golem already checked this tick
+      final AreaEffectCoordinator coordinator = AreaEffectCoordinator.get(world);
+      final AreaScanner.IShape claimed = coordinator.getClaimedByOthers(AreaEffectCoordinator.Effect.SOAK, golem, fillCenter, sphere);
+      fill(world, fillCenter, sphere, claimed, frontier, visited, mutablePos, limit, found);
+      // only claim the positions that were checked, once the fill is complete
+      if (frontier.isEmpty()) {
+        coordinator.claim(AreaEffectCoordinator.Effect.SOAK, golem, fillCenter, sphere.getRadiusX(), sphere.getRadiusY(),
+            sphere.getRadiusZ(), visited);
+      }
+      return found;
+    }
+
+    /**
+     * Takes positions from the frontier until the limit is reached, adding the
+     * neighbors of each block of water to the frontier.
+     *
+     * @param world    the world
+     * @param center   the center of the sphere
+     * @param sphere   the positions in range
+     * @param claimed  positions to leave out, relative to the center. May be null.
+     * @param frontier the packed positions to check next
+     * @param visited  the packed positions that have been added to the frontier
+     * @param pos      a position to reuse
+     * @param limit    the most blocks of water to find
+     * @param found    a list to add the packed positions of water to
+     **/
+    public static void fill(final IWorldReader world, final BlockPos center, final OffsetTable sphere, @Nullable final AreaScanner.IShape claimed,
+        final LongArrayFIFOQueue frontier, final LongOpenHashSet visited, final BlockPos.Mutable pos, final int limit, final LongArrayList found) {
+      while (!frontier.isEmpty() && found.size() < limit) {
+        final long packed = frontier.dequeueLong();
+        pos.setPos(packed);
+        final int dx = pos.getX() - center.getX();
+        final int dy = pos.getY() - center.getY();
+        final int dz = pos.getZ() - center.getZ();
+        if (!sphere.contains(dx, dy, dz) || !world.isBlockLoaded(pos)) {
+          continue;
+        }
+        if (canAbsorb(world.getBlockState(pos))) {
+          // water that another golem claimed is left to it, but the fill still
+          // passes through to reach the water on the other side
+          if (claimed == null || !claimed.contains(dx, dy, dz)) {
+            found.add(packed);
+          }
+          for (final Direction d : DIRECTIONS) {
+            enqueue(frontier, visited, BlockPos.offset(packed, d));
+          }
+        }
+      }
+    }
+
+    /**
+     * Moves the result of the worker's flood fill into the queue once it is
+     * ready. Each position is checked against the world again as it is taken
+     * from the queue.
+     *
+     * @return true if the result was collected while the golem was waiting
+     **/
+    private boolean collectPending() {
+      if (pending != null && pending.isDone()) {
+        queued.clear();
+        queuedIndex = 0;
+        pending.collect(queued);
+        queuedCenter = pending.getCenter();
+        pending = null;
+        return waiting;
+      }
+      return false;
+    }
+
+    /**
+     * Takes up to {@link #limit} blocks of water from the last worker fill, and
+     * starts a new fill on a worker thread when there are none left.
+     *
+     * @param center the block below the golem
+     * @return the packed positions of water to absorb. The list is reused the
+     *         next time this is called.
+     **/
+    protected LongArrayList findWaterAsync(final BlockPos center) {
+      found.clear();
+      final World world = golem.getEntityWorld();
+      final OffsetTable sphere = OffsetTable.sphere(range);
+      while (queuedIndex < queued.size() && found.size() < limit) {
+        final long packed = queued.getLong(queuedIndex++);
+        mutablePos.setPos(packed);
+        // the golem may have moved since the fill started
+        if (sphere.contains(mutablePos.getX() - center.getX(), mutablePos.getY() - center.getY(), mutablePos.getZ() - center.getZ())
+            && world.isBlockLoaded(mutablePos) && canAbsorb(world.getBlockState(mutablePos))) {
+          found.add(packed);
+        }
+      }
+      if (pending == null && (queuedIndex >= queued.size() || !center.equals(queuedCenter)) && AsyncAreaScanner.isEnabled()) {
+        final int height = MathHelper.ceil(golem.getHeight());
+        pending = AsyncAreaScanner.submit(world, center, range, range, range, SoakWaterGoal::canAbsorb,
+            (snapshot, out) -> floodFill(snapshot, sphere, height, out));
+      }
+      return found;
+    }
+
+    /**
+     * Same as {@link #startFill(BlockPos)} followed by {@link #findWater()} with
+     * no limit, using copied blocks. Runs on a worker thread.
+     *
+     * @param snapshot the copied blocks around the golem
+     * @param sphere   the positions in range
+     * @param height   the number of blocks above the center to start from
+     * @param out      a list to add the packed positions of water to
+     **/
+    private static void floodFill(final AsyncAreaScanner.Snapshot snapshot, final OffsetTable sphere, final int height,
+        final LongArrayList out) {
+      final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+      final LongOpenHashSet seen = new LongOpenHashSet();
+      final BlockPos center = snapshot.getCenter();
+      seedFill(center, height, queue, seen);
+      while (!queue.isEmpty()) {
+        final long packed = queue.dequeueLong();
+        final int x = BlockPos.unpackX(packed);
+        final int y = BlockPos.unpackY(packed);
+        final int z = BlockPos.unpackZ(packed);
+        if (!sphere.contains(x - center.getX(), y - center.getY(), z - center.getZ())) {
+          continue;
+        }
+        final BlockState state = snapshot.getBlockState(x, y, z);
+        if (state != null && canAbsorb(state)) {
+          out.add(packed);
+          for (final Direction d : DIRECTIONS) {
+            enqueue(queue, seen, BlockPos.offset(packed, d));
+          }
+        }
+      }
+    }
+
+    private static void enqueue(final LongArrayFIFOQueue queue, final LongOpenHashSet seen, final long packed) {
+      if (seen.add(packed)) {
+        queue.enqueue(packed);
+      }
+    }
+
+    /**
+     * @param state a block state
+     * @return true if the default absorb function would change the state
+     **/
+    private static boolean canAbsorb(final BlockState state) {
+      final BlockState replace = SpongeGolemSoakEvent.DEFAULT_ABSORB_FUNCTION.apply(state);
+      return replace != null && replace != state;
+    }
+
     /**
      * Usually called after creating and firing a {@link SpongeGolemSoakEvent}.
      * Iterates through the list of positions and replaces each one with the passed
-     * BlockState.
+     * BlockState. The blocks are changed through the {@link GolemBlockEditQueue}.
      *
-     * @return whether all setBlockState calls were successful.
+     * @return true if every position got a new edit. False if any position
+     *         already had an edit waiting, or is outside the world.
      **/
     public boolean replaceWater(final List<BlockPos> positions, final Function<BlockState, BlockState> replaceWater, final int updateFlag) {
+      final GolemBlockEditQueue queue = GolemBlockEditQueue.get(golem.getEntityWorld());
       boolean flag = true;
       for (final BlockPos p : positions) {
-        flag &= golem.getEntityWorld().setBlockState(p, replaceWater.apply(golem.getEntityWorld().getBlockState(p)), updateFlag);
+        flag &= queue.add(p, replaceWater, updateFlag);
+      }
+      return flag;
+    }
+
+    /**
+     * Same as {@link #replaceWater(List, Function, int)} for positions packed
+     * with {@link BlockPos#toLong()}.
+     *
+     * @return true if every position got a new edit. False if any position
+     *         already had an edit waiting, or is outside the world.
+     **/
+    public boolean replaceWater(final LongList positions, final Function<BlockState, BlockState> replaceWater, final int updateFlag) {
+      final GolemBlockEditQueue queue = GolemBlockEditQueue.get(golem.getEntityWorld());
+      boolean flag = true;
+      for (int i = 0, l = positions.size(); i < l; i++) {
+        mutablePos.setPos(positions.getLong(i));
+        flag &= queue.add(mutablePos, replaceWater, updateFlag);
       }
       return flag;
     }
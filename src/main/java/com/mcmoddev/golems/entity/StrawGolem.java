@@ -2,14 +2,16 @@ package com.mcmoddev.golems.entity;
 
 import java.util.Random;
 
+import javax.annotation.Nullable;
+
 import com.mcmoddev.golems.entity.base.GolemBase;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.block.IGrowable;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.ai.goal.Goal;
-import net.minecraft.item.BoneMealItem;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
 
@@ -31,6 +33,9 @@ public final class StrawGolem extends GolemBase {
   }
 
   public static class BoostCropGoal extends Goal {
+    /** The number of blocks to check for a crop **/
+    public static final int MAX_ATTEMPTS = 26;
+
     protected final GolemBase golem;
     protected final int range;
     protected final int frequency;
@@ -58,34 +63,63 @@ public final class StrawGolem extends GolemBase {
      * @return always returns false...
      **/
     private boolean tryBoostCrop() {
-      final Random rand = this.golem.getEntityWorld().getRandom();
-      final int maxAttempts = 25;
+      final World world = this.golem.getEntityWorld();
+      if (!(world instanceof ServerWorld)) {
+        return false;
+      }
+      final Random rand = world.getRandom();
+      final BlockPos below = this.golem.getBlockBelow();
+      BlockPos blockpos = findCrop(world, below, this.range, rand);
+      while (blockpos != null) {
+        // grow the crop!
+        final BlockState state = world.getBlockState(blockpos);
+        ((IGrowable) state.getBlock()).grow((ServerWorld) world, rand, blockpos, state);
+        // each crop that grows earns one more attempt
+        blockpos = findCrop(world, below, this.range, rand, 1);
+      }
+      return false;
+    }
+
+    /**
+     * Checks random blocks in a radius until a growable crop is found, or no
+     * crops were found in {@link #MAX_ATTEMPTS} attempts.
+     *
+     * @param world  the world
+     * @param center the block below the golem
+     * @param range  the radius to check
+     * @param rand   a random
+     * @return the position of a crop that can grow, or null if none was found
+     **/
+    @Nullable
+    public static BlockPos findCrop(final IWorldReader world, final BlockPos center, final int range, final Random rand) {
+      return findCrop(world, center, range, rand, MAX_ATTEMPTS);
+    }
+
+    /**
+     * @param world    the world
+     * @param center   the block below the golem
+     * @param range    the radius to check
+     * @param rand     a random
+     * @param attempts the number of blocks to check
+     * @return the position of a crop that can grow, or null if none was found
+     **/
+    @Nullable
+    public static BlockPos findCrop(final IWorldReader world, final BlockPos center, final int range, final Random rand,
+        int attempts) {
       final int variationY = 2;
-      int attempts = 0;
-      while (attempts++ <= maxAttempts) {
+      while (attempts-- > 0) {
         // get random block in radius
-        final int x1 = rand.nextInt(this.range * 2) - this.range;
+        final int x1 = rand.nextInt(range * 2) - range;
         final int y1 = rand.nextInt(variationY * 2) - variationY;
-        final int z1 = rand.nextInt(this.range * 2) - this.range;
-        final BlockPos blockpos = this.golem.getBlockBelow().add(x1, y1, z1);
-        final BlockState state = golem.getEntityWorld().getBlockState(blockpos);
-        // if the block can be grown, grow it and return
-        if (state.getBlock() instanceof IGrowable) {
-          IGrowable crop = (IGrowable) state.getBlock();
-          if (golem.getEntityWorld() instanceof ServerWorld
-              && crop.canGrow(golem.getEntityWorld(), blockpos, state, golem.getEntityWorld().isRemote)) {
-            // grow the crop!
-            crop.grow((ServerWorld) golem.getEntityWorld(), rand, blockpos, state);
-            // spawn particles
-            if (golem.getEntityWorld().isRemote()) {
-              BoneMealItem.spawnBonemealParticles(golem.getEntityWorld(), blockpos, 0);
-            }
-            // cap the attempts here so we exit the while loop safely
-            attempts = maxAttempts;
-          }
+        final int z1 = rand.nextInt(range * 2) - range;
+        final BlockPos blockpos = center.add(x1, y1, z1);
+        final BlockState state = world.getBlockState(blockpos);
+        // if the block can be grown, return it
+        if (state.getBlock() instanceof IGrowable && ((IGrowable) state.getBlock()).canGrow(world, blockpos, state, world.isRemote())) {
+          return blockpos;
         }
       }
-      return false;
+      return null;
     }
   }
 }
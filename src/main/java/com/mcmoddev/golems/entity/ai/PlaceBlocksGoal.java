@@ -5,12 +5,14 @@ import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.GolemBlockEditQueue;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.GameRules;
+import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
 
 public class PlaceBlocksGoal extends Goal {
@@ -60,22 +62,60 @@ public class PlaceBlocksGoal extends Goal {
     }
   }
 
+  /**
+   * Checks the same things as {@link #startExecuting()}, without placing
+   * anything. Subclasses that override {@link #isPlantSupport(World, BlockPos)}
+   * are still called when the world is a {@link World}.
+   *
+   * @param world the world
+   * @param below the block below the golem
+   * @return true if a plant could be placed on top of the block
+   **/
+  public boolean canPlantAt(final IWorldReader world, final BlockPos below) {
+    if (!world.isAirBlock(below.up(1))) {
+      return false;
+    }
+    return world instanceof World ? isPlantSupport((World) world, below) : isPlantSupport(world, below);
+  }
+
   @Override
   public boolean shouldContinueExecuting() {
     return false;
   }
 
+  /**
+   * @param world the world
+   * @param pos   the position to plant at
+   * @return true if the plant was queued, and no other edit was waiting there
+   **/
   protected boolean setToPlant(final World world, final BlockPos pos) {
     final BlockState state = this.plantables[world.rand.nextInt(this.plantables.length)];
-    return world.setBlockState(pos, state, 2);
+    // only plant if the block is still empty when the edit is applied
+    return GolemBlockEditQueue.get(world).add(pos, s -> s.isAir() ? state : s, 2);
   }
 
   protected boolean isPlantSupport(final World world, final BlockPos pos) {
+    return isPlantSupport((IWorldReader) world, pos);
+  }
+
+  /**
+   * @param world the world, which might not be a {@link World}
+   * @param pos   the block to check
+   * @return true if a plant could grow on the block
+   **/
+  protected boolean isPlantSupport(final IWorldReader world, final BlockPos pos) {
     if (!this.checkSupports) {
       return true;
     }
+    return isPlantSupport(world.getBlockState(pos));
+  }
 
-    final Block at = world.getBlockState(pos).getBlock();
+  /**
+   * @param state a block state
+   * @return true if the block is one of the plant supports
+   **/
+  protected boolean isPlantSupport(final BlockState state) {
+    final Block at = state.getBlock();
     if (this.plantSupports != null && this.plantSupports.length > 0) {
       for (final Block b : this.plantSupports) {
         if (at == b) {
@@ -1,6 +1,7 @@
 package com.mcmoddev.golems.entity.ai;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.GolemBlockEditQueue;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.FlowingFluidBlock;
@@ -88,7 +89,9 @@ public class PlaceUtilityBlockGoal extends Goal {
           return;
         }
         if (this.predicate.test(golem, pos)) {
-          this.golem.getEntityWorld().setBlockState(pos, getStateToPlace(cur), 2 | 4);
+          // only place if the block has not changed when the edit is applied
+          final BlockState place = getStateToPlace(cur);
+          GolemBlockEditQueue.get(golem.getEntityWorld()).add(pos, s -> s == cur ? place : s, 2 | 4);
           return;
         }
       }
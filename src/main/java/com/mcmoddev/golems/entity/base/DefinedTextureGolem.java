@@ -62,6 +62,11 @@ public class DefinedTextureGolem extends GolemBase {
       vines = vinesColor > 0 ? GolemRenderSettings.FALLBACK_VINES : null;
     }
   }
+
+  @Override
+  protected boolean isDescriptionKey(final DataParameter<?> key) {
+    return super.isDescriptionKey(key) || DATA_TEXTURE.equals(key);
+  }
   
   @Override
   public void writeAdditional(final CompoundNBT nbt) {
@@ -16,7 +16,9 @@ import com.mcmoddev.golems.util.GolemContainer;
 import com.mcmoddev.golems.util.GolemContainer.SwimMode;
 import com.mcmoddev.golems.util.GolemRegistrar;
 import com.mcmoddev.golems.util.config.ExtraGolemsConfig;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 import com.mcmoddev.golems.util.config.special.GolemSpecialContainer;
+import com.mcmoddev.golems.util.config.special.GolemSpecialSnapshot;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -25,6 +27,7 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.MoverType;
 import net.minecraft.entity.ai.attributes.Attributes;
 import net.minecraft.entity.ai.controller.MovementController;
+import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.ai.goal.RandomSwimmingGoal;
 import net.minecraft.entity.ai.goal.SwimGoal;
 import net.minecraft.entity.passive.IronGolemEntity;
@@ -69,6 +72,15 @@ public abstract class GolemBase extends IronGolemEntity {
   protected final SwimmerPathNavigator waterNavigator;
   protected final GroundPathNavigator groundNavigator;
   protected boolean swimmingUp;
+  /** Cached from the container, see {@link #getSpecials()} **/
+  private GolemSpecialSnapshot specials;
+  /** Light and power AI, if enabled **/
+  private Goal lightGoal;
+  private Goal powerGoal;
+  /** Swimming AI for the current swim mode **/
+  private final List<Goal> swimGoals = new ArrayList<>();
+  /** Increased each time a synced value that is shown in descriptions changes **/
+  private int descriptionVersion = 0;
 
   public GolemBase(EntityType<? extends GolemBase> type, World world) {
     super(type, world);
@@ -76,26 +88,7 @@ public abstract class GolemBase extends IronGolemEntity {
     // the following will be unused if swimming is not enabled
     this.waterNavigator = new SwimmerPathNavigator(this, world);
     this.groundNavigator = new GroundPathNavigator(this, world);
-    // define behavior for the given swimming ability
-    switch (container.getSwimMode()) {
-    case FLOAT:
-      // basic swimming AI
-      this.goalSelector.addGoal(0, new SwimGoal(this));
-      break;
-    case SWIM:
-      // advanced swimming AI
-      this.stepHeight = 1.0F;
-      this.moveController = new SwimmingMovementController(this);
-      this.setPathPriority(PathNodeType.WATER, 0.0F);
-      this.goalSelector.addGoal(1, new GoToWaterGoal(this, 14, 1.0D));
-      this.goalSelector.addGoal(4, new RandomSwimmingGoal(this, 0.8F, 200));
-      this.goalSelector.addGoal(5, new SwimUpGoal(this, 1.0D, this.world.getSeaLevel()));
-      break;
-    case SINK:
-    default:
-      // no swimming AI
-      break;
-    }
+    registerSwimGoals();
   }
 
   /**
@@ -116,23 +109,107 @@ public abstract class GolemBase extends IronGolemEntity {
     this.getDataManager().register(CHILD, Boolean.valueOf(false));
   }
   
+  /**
+   * Called from the entity constructor, before any field initializers of this
+   * class or a subclass have run. Goals that must be replaced later should be
+   * kept in fields without an initializer, or be added from the subclass
+   * constructor instead.
+   **/
   @Override
   protected void registerGoals() {
     super.registerGoals();
+    registerUtilityGoals();
+  }
+
+  /**
+   * Adds the light and power AI if they are enabled, replacing any that were
+   * added before.
+   **/
+  protected void registerUtilityGoals() {
     final GolemContainer cont = this.getGolemContainer();
+    if(lightGoal != null) {
+      this.goalSelector.removeGoal(lightGoal);
+      lightGoal = null;
+    }
+    if(powerGoal != null) {
+      this.goalSelector.removeGoal(powerGoal);
+      powerGoal = null;
+    }
     // register light level AI if enabled
     if(cont.getLightLevel() > 0 && getConfigBool(ALLOW_LIGHT)) {
       int lightInt = cont.getLightLevel();
       final BlockState state = GolemItems.UTILITY_LIGHT.getDefaultState().with(BlockUtilityGlow.LIGHT_LEVEL, lightInt);
-      this.goalSelector.addGoal(9, new PlaceUtilityBlockGoal(this, state, BlockUtilityGlow.UPDATE_TICKS, 
-          true, null));
+      lightGoal = new PlaceUtilityBlockGoal(this, state, BlockUtilityGlow.UPDATE_TICKS, true, null);
+      this.goalSelector.addGoal(9, lightGoal);
     }
     // register power level AI if enabled
     if(cont.getPowerLevel() > 0 && getConfigBool(ALLOW_POWER)) {
       int powerInt = cont.getPowerLevel();
       final BlockState state = GolemItems.UTILITY_POWER.getDefaultState().with(BlockUtilityPower.POWER_LEVEL, powerInt);
       final int freq = BlockUtilityPower.UPDATE_TICKS;
-      this.goalSelector.addGoal(9, new PlaceUtilityBlockGoal(this, state, freq));
+      powerGoal = new PlaceUtilityBlockGoal(this, state, freq);
+      this.goalSelector.addGoal(9, powerGoal);
+    }
+  }
+
+  /**
+   * Defines behavior for the golem's swim mode, replacing any swimming AI that
+   * was added before.
+   **/
+  protected void registerSwimGoals() {
+    for (final Goal goal : swimGoals) {
+      this.goalSelector.removeGoal(goal);
+    }
+    swimGoals.clear();
+    if (container.getSwimMode() == SwimMode.SWIM) {
+      // advanced swimming AI
+      this.stepHeight = 1.0F;
+      this.moveController = new SwimmingMovementController(this);
+      this.setPathPriority(PathNodeType.WATER, 0.0F);
+      addSwimGoal(1, new GoToWaterGoal(this, 14, 1.0D));
+      addSwimGoal(4, new RandomSwimmingGoal(this, 0.8F, 200));
+      addSwimGoal(5, new SwimUpGoal(this, 1.0D, this.world.getSeaLevel()));
+      return;
+    }
+    // undo the advanced swimming AI, if there was any
+    if (this.moveController instanceof SwimmingMovementController) {
+      this.stepHeight = 0.6F;
+      this.moveController = new MovementController(this);
+      this.setPathPriority(PathNodeType.WATER, PathNodeType.WATER.getPriority());
+      this.navigator = this.groundNavigator;
+      this.swimmingUp = false;
+      setSwimming(false);
+    }
+    if (container.getSwimMode() == SwimMode.FLOAT) {
+      // basic swimming AI
+      addSwimGoal(0, new SwimGoal(this));
+    }
+  }
+
+  private void addSwimGoal(final int priority, final Goal goal) {
+    swimGoals.add(goal);
+    this.goalSelector.addGoal(priority, goal);
+  }
+
+  /**
+   * Called on the server thread when the config file or golem data packs are
+   * reloaded while this golem is loaded. Golems that copy config values into
+   * fields or goals should override this to copy the values that changed.
+   *
+   * @param delta the settings that changed for this type of golem
+   **/
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    if(delta.healthChanged() || delta.attackChanged()) {
+      updateAttributes();
+      if(this.getHealth() > this.getMaxHealth()) {
+        this.setHealth(this.getMaxHealth());
+      }
+    }
+    if(delta.specialChanged(ALLOW_LIGHT) || delta.specialChanged(ALLOW_POWER) || delta.lightLevelChanged() || delta.powerLevelChanged()) {
+      registerUtilityGoals();
+    }
+    if(delta.swimModeChanged()) {
+      registerSwimGoals();
     }
   }
 
@@ -172,7 +249,7 @@ public abstract class GolemBase extends IronGolemEntity {
 
   /** @return the Golem Container **/
   public GolemContainer getGolemContainer() {
-    return container != null ? container : GolemRegistrar.getContainer(this.getType().getRegistryName());
+    return container != null ? container : GolemRegistrar.getContainer(this.getType());
   }
 
   /**
@@ -218,16 +295,51 @@ public abstract class GolemBase extends IronGolemEntity {
     return (ExtraGolemsConfig.GOLEM_CONFIG.specials.get(special)).value;
   }
   
+  /**
+   * @return a typed copy of this golem's special config values, refreshed
+   *         whenever the config is loaded again
+   **/
+  public GolemSpecialSnapshot getSpecials() {
+    GolemSpecialSnapshot s = this.specials;
+    if(null == s || s.getVersion() != GolemSpecialSnapshot.getCurrentVersion()) {
+      s = this.getGolemContainer().getSpecials();
+      this.specials = s;
+    }
+    return s;
+  }
+
+  /**
+   * Finds the slot of a config value once, so that code that reads it often
+   * does not look up its name on every read.
+   *
+   * @param name the name of the config value
+   * @return the slot to pass to {@link #getConfigBool(int)},
+   *         {@link #getConfigInt(int)}, or {@link #getConfigDouble(int)}, or
+   *         -1 if none is found
+   * @see GolemSpecialSnapshot#getSlot(String)
+   **/
+  public int getConfigSlot(final String name) {
+    final int slot = getSpecials().getSlot(name);
+    if(slot < 0) {
+      logMissingConfig(name);
+    }
+    return slot;
+  }
+
   /**
    * @param name the name of the config value
    * @return the config value, or false if none is found
    **/
   public boolean getConfigBool(final String name) {
-    ForgeConfigSpec.ConfigValue v = getConfigValue(name);
-    if(null == v) {
-      return false;
-    }
-    return (Boolean) v.get();
+    return getConfigBool(getConfigSlot(name));
+  }
+
+  /**
+   * @param slot the slot of the config value, from {@link #getConfigSlot(String)}
+   * @return the config value, or false if none is found
+   **/
+  public boolean getConfigBool(final int slot) {
+    return getSpecials().getBoolean(slot);
   }
 
   /**
@@ -235,11 +347,15 @@ public abstract class GolemBase extends IronGolemEntity {
    * @return the config value, or 0 if none is found
    **/
   public int getConfigInt(final String name) {
-    ForgeConfigSpec.ConfigValue v = getConfigValue(name);
-    if(null == v) {
-      return 0;
-    }
-    return (Integer) v.get();
+    return getConfigInt(getConfigSlot(name));
+  }
+
+  /**
+   * @param slot the slot of the config value, from {@link #getConfigSlot(String)}
+   * @return the config value, or 0 if none is found
+   **/
+  public int getConfigInt(final int slot) {
+    return getSpecials().getInt(slot);
   }
 
   /**
@@ -247,11 +363,20 @@ public abstract class GolemBase extends IronGolemEntity {
    * @return the config value, or 0 if none is found
    **/
   public double getConfigDouble(final String name) {
-    ForgeConfigSpec.ConfigValue v = getConfigValue(name);
-    if(null == v) {
-      return 0.0D;
-    }
-    return (Double) v.get();
+    return getConfigDouble(getConfigSlot(name));
+  }
+
+  /**
+   * @param slot the slot of the config value, from {@link #getConfigSlot(String)}
+   * @return the config value, or 0 if none is found
+   **/
+  public double getConfigDouble(final int slot) {
+    return getSpecials().getDouble(slot);
+  }
+
+  private void logMissingConfig(final String name) {
+    ExtraGolems.LOGGER.error("Tried to access config value '" + name + "' in golem '" 
+        + this.getGolemContainer().getName() + "' but no config container was found!");
   }
 
   /////////////// OVERRIDEN BEHAVIOR //////////////////
@@ -356,22 +481,54 @@ public abstract class GolemBase extends IronGolemEntity {
   public void notifyDataManagerChange(final DataParameter<?> key) {
     super.notifyDataManagerChange(key);
     if (CHILD.equals(key)) {
-      if (this.isChild()) {
-        // truncate these values to one decimal place after reducing them from base values
-        double childHealth = (Math.floor(getGolemContainer().getHealth() * 0.3D * 10D)) / 10D;
-        double childAttack = (Math.floor(getGolemContainer().getAttack() * 0.6D * 10D)) / 10D;
-        this.getAttribute(Attributes.MAX_HEALTH).setBaseValue(childHealth);
-        this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(childAttack);
-        this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(0.0D);
-      } else {
-        // use full values for non-child golem
-        this.getAttribute(Attributes.MAX_HEALTH).setBaseValue(getGolemContainer().getHealth());
-        this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(getGolemContainer().getAttack());
-        this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(getGolemContainer().getKnockbackResist());
-      }
+      updateAttributes();
       // recalculate size
       this.recalculateSize();
     }
+    if (isDescriptionKey(key)) {
+      descriptionVersion++;
+    }
+  }
+
+  /**
+   * @param key a synced data key
+   * @return true if the value is shown in in-game descriptions, such as WAILA
+   *         tooltips
+   * @see #getDescriptionVersion()
+   **/
+  protected boolean isDescriptionKey(final DataParameter<?> key) {
+    return CHILD.equals(key);
+  }
+
+  /**
+   * Used by tooltip caches to tell when a golem's description needs to be
+   * built again.
+   *
+   * @return a number that changes whenever a synced value shown in this golem's
+   *         description changes
+   **/
+  public int getDescriptionVersion() {
+    return descriptionVersion;
+  }
+
+  /**
+   * Sets the base health, attack, and knockback resistance from the golem
+   * container, adjusted for whether this golem is a child.
+   **/
+  protected void updateAttributes() {
+    if (this.isChild()) {
+      // truncate these values to one decimal place after reducing them from base values
+      double childHealth = (Math.floor(getGolemContainer().getHealth() * 0.3D * 10D)) / 10D;
+      double childAttack = (Math.floor(getGolemContainer().getAttack() * 0.6D * 10D)) / 10D;
+      this.getAttribute(Attributes.MAX_HEALTH).setBaseValue(childHealth);
+      this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(childAttack);
+      this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(0.0D);
+    } else {
+      // use full values for non-child golem
+      this.getAttribute(Attributes.MAX_HEALTH).setBaseValue(getGolemContainer().getHealth());
+      this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(getGolemContainer().getAttack());
+      this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(getGolemContainer().getKnockbackResist());
+    }
   }
   
   /**
@@ -107,6 +107,11 @@ public abstract class GolemMultiTextured extends GolemBase implements IMultiText
     }
   }
 
+  @Override
+  protected boolean isDescriptionKey(final DataParameter<?> key) {
+    return super.isDescriptionKey(key) || DATA_TEXTURE.equals(key);
+  }
+
   @Override
   public void writeAdditional(final CompoundNBT nbt) {
     super.writeAdditional(nbt);
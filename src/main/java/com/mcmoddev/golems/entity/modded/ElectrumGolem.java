@@ -1,6 +1,7 @@
 package com.mcmoddev.golems.entity.modded;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.entity.EntityType;
 import net.minecraft.util.DamageSource;
@@ -16,6 +17,12 @@ public class ElectrumGolem extends GolemBase {
     super(type, world);
     immuneToMagic = getConfigBool(IMMUNE_TO_MAGIC);
   }
+
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    immuneToMagic = getConfigBool(IMMUNE_TO_MAGIC);
+  }
   
   @Override
   public boolean isInvulnerableTo(DamageSource source) {
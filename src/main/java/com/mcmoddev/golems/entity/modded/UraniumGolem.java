@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -40,6 +41,15 @@ public class UraniumGolem extends GolemBase {
 		this.allowPoison = getConfigBool(ALLOW_POISON);
 	}
 
+	@Override
+	public void onConfigChanged(final GolemConfigDelta delta) {
+		super.onConfigChanged(delta);
+		this.poisonAOEFactor = getConfigDouble(AOE);
+		this.poisonLen = getConfigInt(DURATION);
+		this.poisonAmp = getConfigInt(AMPLIFIER);
+		this.allowPoison = getConfigBool(ALLOW_POISON);
+	}
+
 	@Override
   public void tick() {
     super.tick();
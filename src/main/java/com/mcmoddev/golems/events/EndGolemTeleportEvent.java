@@ -14,6 +14,8 @@ import net.minecraftforge.eventbus.api.Cancelable;
 @Cancelable
 public class EndGolemTeleportEvent extends EnderTeleportEvent {
 
+  private static final EventListenerCheck LISTENERS = EventListenerCheck.of(EndGolemTeleportEvent.class);
+
   public final EndstoneGolem entityGolem;
 
   public EndGolemTeleportEvent(final EndstoneGolem entity, final double targetX, final double targetY, final double targetZ,
@@ -21,4 +23,13 @@ public class EndGolemTeleportEvent extends EnderTeleportEvent {
     super(entity, targetX, targetY, targetZ, attackDamage);
     this.entityGolem = entity;
   }
+
+  /**
+   * @return true if anything is listening for this event, including listeners
+   *         for {@link EnderTeleportEvent} and its parent classes. When this is
+   *         false, golems teleport without posting the event.
+   **/
+  public static boolean hasListeners() {
+    return LISTENERS.hasListeners();
+  }
 }
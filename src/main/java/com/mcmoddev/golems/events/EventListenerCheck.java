@@ -0,0 +1,81 @@
+package com.mcmoddev.golems.events;
+
+import java.lang.reflect.Field;
+
+import com.mcmoddev.golems.main.ExtraGolems;
+
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.eventbus.ListenerList;
+import net.minecraftforge.eventbus.api.Event;
+import net.minecraftforge.eventbus.api.EventListenerHelper;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.IEventListener;
+
+/**
+ * Checks whether anything is listening for an event on
+ * {@link MinecraftForge#EVENT_BUS}, so that golems can skip creating events
+ * that nobody would receive. Listeners for parent event classes count too.
+ * If the listeners cannot be checked, this always reports that there are
+ * listeners, so the events are still posted.
+ **/
+public final class EventListenerCheck {
+
+  /** The ID of the Forge event bus, or -1 if it could not be found **/
+  private static final int BUS_ID = findBusId();
+
+  private final Class<? extends Event> eventClass;
+  private ListenerList listenerList;
+  /** The listeners when last checked. The bus makes a new array when they change. **/
+  private IEventListener[] lastListeners;
+  private boolean lastResult = true;
+
+  private EventListenerCheck(final Class<? extends Event> lEventClass) {
+    this.eventClass = lEventClass;
+  }
+
+  /**
+   * @param eventClass the event class
+   * @return a new check for the event class
+   **/
+  public static EventListenerCheck of(final Class<? extends Event> eventClass) {
+    return new EventListenerCheck(eventClass);
+  }
+
+  /**
+   * @return true if at least one listener would receive the event when it is
+   *         posted to {@link MinecraftForge#EVENT_BUS}
+   **/
+  public boolean hasListeners() {
+    if (BUS_ID < 0) {
+      return true;
+    }
+    // the listener list is created when the event class loads, so look it up the first time it is needed
+    if (listenerList == null) {
+      listenerList = EventListenerHelper.getListenerList(eventClass);
+    }
+    final IEventListener[] listeners = listenerList.getListeners(BUS_ID);
+    if (listeners != lastListeners) {
+      lastListeners = listeners;
+      lastResult = false;
+      // each priority is also in the array, to mark where its listeners start
+      for (final IEventListener listener : listeners) {
+        if (!(listener instanceof EventPriority)) {
+          lastResult = true;
+          break;
+        }
+      }
+    }
+    return lastResult;
+  }
+
+  private static int findBusId() {
+    try {
+      final Field field = MinecraftForge.EVENT_BUS.getClass().getDeclaredField("busID");
+      field.setAccessible(true);
+      return field.getInt(MinecraftForge.EVENT_BUS);
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      ExtraGolems.LOGGER.warn("Could not find the event bus ID, golem events will always be posted: %s", e.toString());
+      return -1;
+    }
+  }
+}
@@ -1,33 +1,57 @@
 package com.mcmoddev.golems.events;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.area.AreaEffectCoordinator;
+import com.mcmoddev.golems.util.area.AreaScanner;
+import com.mcmoddev.golems.util.area.OffsetTable;
+import com.mcmoddev.golems.util.area.PackedBlockPosList;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.material.Material;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldReader;
 import net.minecraftforge.eventbus.api.Cancelable;
 import net.minecraftforge.eventbus.api.Event;
 
 /**
  * This event exists for other mods or addons to handle and modify the Ice
- * Golem's behavior. It is not handled in Extra Golems.
+ * Golem's behavior. It is not handled in Extra Golems. The affected positions
+ * are only found when a listener first asks for them, and the event is not
+ * created at all when nothing listens for it.
  */
 @Cancelable
 public final class IceGolemFreezeEvent extends Event {
 
-  private List<BlockPos> affectedBlocks;
+  private static final EventListenerCheck LISTENERS = EventListenerCheck.of(IceGolemFreezeEvent.class);
+  /** Reused for each search, one per thread **/
+  private static final ThreadLocal<Finder> FINDER = ThreadLocal.withInitial(Finder::new);
+
+  private PackedBlockPosList affectedBlocks;
   private Function<BlockState, BlockState> freezeFunction;
+  /** True if the affected positions need to be found again before they are used **/
+  private boolean stale;
 
   public final GolemBase iceGolem;
   public final BlockPos iceGolemPos;
   public final int range;
+  /**
+   * The center of the last disc that was frozen, or null if every position in
+   * range should be checked. Positions within range of this center are not
+   * added to the list because they were already frozen.
+   **/
+  @Nullable
+  public final BlockPos skippedCenter;
 
   /**
    * This percentage of Packed Ice placed will become regular ice instead.
@@ -44,37 +68,143 @@ public final class IceGolemFreezeEvent extends Event {
   public int updateFlag;
 
   public IceGolemFreezeEvent(final GolemBase golem, final BlockPos center, final int radius, final boolean frostedIce) {
-    this(golem, center, radius, new DefaultFreezeFunction(golem.getRNG(), frostedIce, ICE_CHANCE, COBBLE_CHANCE));
+    this(golem, center, radius, frostedIce, null);
+  }
+
+  /**
+   * @param golem       the Ice Golem
+   * @param center      the center of the disc to freeze
+   * @param radius      the radius of the disc
+   * @param frostedIce  whether water should become frosted ice
+   * @param lastCenter  the center of the last disc that was frozen, or null to
+   *                    check every position in range
+   **/
+  public IceGolemFreezeEvent(final GolemBase golem, final BlockPos center, final int radius, final boolean frostedIce,
+      @Nullable final BlockPos lastCenter) {
+    this(golem, center, radius, new DefaultFreezeFunction(golem.getRNG(), frostedIce, ICE_CHANCE, COBBLE_CHANCE), lastCenter);
   }
 
   public IceGolemFreezeEvent(final GolemBase golem, final BlockPos center, final int radius, final Function<BlockState, BlockState> function) {
+    this(golem, center, radius, function, null);
+  }
+
+  public IceGolemFreezeEvent(final GolemBase golem, final BlockPos center, final int radius, final Function<BlockState, BlockState> function,
+      @Nullable final BlockPos lastCenter) {
+    this(golem, center, radius, function, lastCenter, null);
+  }
+
+  /**
+   * @param golem      the Ice Golem
+   * @param center     the center of the disc to freeze
+   * @param radius     the radius of the disc
+   * @param function   the function that decides which state replaces each block
+   * @param lastCenter the center of the last disc that was frozen, or null to
+   *                   check every position in range
+   * @param positions  a list to clear and fill with the affected positions, so
+   *                   the caller can reuse it each time. May be null.
+   **/
+  public IceGolemFreezeEvent(final GolemBase golem, final BlockPos center, final int radius, final Function<BlockState, BlockState> function,
+      @Nullable final BlockPos lastCenter, @Nullable final LongArrayList positions) {
     this.setResult(Result.ALLOW);
     this.iceGolem = golem;
     this.iceGolemPos = center;
     this.range = radius;
+    this.skippedCenter = lastCenter;
     this.updateFlag = 3;
+    this.affectedBlocks = positions != null ? new PackedBlockPosList(positions) : new PackedBlockPosList();
     this.setFunction(function, true);
   }
 
+  /**
+   * @return true if anything is listening for this event. When this is false,
+   *         golems use {@link #findAffectedPositions} directly instead of
+   *         posting the event.
+   **/
+  public static boolean hasListeners() {
+    return LISTENERS.hasListeners();
+  }
+
   public void initAffectedBlockList(final int range) {
-    this.affectedBlocks = new ArrayList<>(range * range * 2 * 4);
-    final int maxDis = range * range;
-    // check 3-layer circle around this golem (disc, not sphere) to add positions to
-    // the map
-    for (int i = -range; i <= range; i++) {
-      for (int j = -1; j <= 1; j++) {
-        for (int k = -range; k <= range; k++) {
-          final BlockPos currentPos = this.iceGolemPos.add(i, j, k);
-          if (iceGolemPos.distanceSq(currentPos) <= maxDis) {
-            final BlockState state = this.iceGolem.world.getBlockState(currentPos);
-            final BlockState replace = this.freezeFunction.apply(state);
-            if (replace != state) {
-              this.affectedBlocks.add(currentPos);
-            }
-          }
-        }
-      }
+    this.stale = false;
+    this.affectedBlocks.clear();
+    findAffectedPositions(this.iceGolem, this.iceGolemPos, range, this.freezeFunction, this.skippedCenter, this.affectedBlocks.getPacked());
+  }
+
+  /** Finds the affected positions if they have not been found yet **/
+  private PackedBlockPosList getAffectedBlocks() {
+    if (this.stale) {
+      this.initAffectedBlockList(this.range);
     }
+    return this.affectedBlocks;
+  }
+
+  /**
+   * Finds the positions in a disc that an Ice Golem would freeze.
+   *
+   * @param golem         the Ice Golem
+   * @param center        the center of the disc
+   * @param range         the radius of the disc
+   * @param function      the function that decides which state replaces each
+   *                      block
+   * @param skippedCenter the center of the last disc that was frozen, or null
+   *                      to check every position in range
+   * @param positions     a list to clear and fill with the packed positions
+   **/
+  public static void findAffectedPositions(final GolemBase golem, final BlockPos center, final int range,
+      final Function<BlockState, BlockState> function, @Nullable final BlockPos skippedCenter, final LongArrayList positions) {
+    final OffsetTable disc = OffsetTable.disc(range);
+    // positions that another ice golem already checked this tick
+    final AreaEffectCoordinator coordinator = AreaEffectCoordinator.get(golem.world);
+    final AreaScanner.IShape claimed = coordinator.getClaimedByOthers(AreaEffectCoordinator.Effect.FREEZE, golem, center, disc);
+    findAffectedPositions(golem.world, center, range, function, skippedCenter, claimed, positions);
+    // only claim the disc if all of it was checked
+    if (skippedCenter == null) {
+      coordinator.claim(AreaEffectCoordinator.Effect.FREEZE, golem, center, disc);
+    }
+  }
+
+  /**
+   * Finds the positions in a disc that the function would change, without
+   * checking what other golems have claimed.
+   *
+   * @param world         the world
+   * @param center        the center of the disc
+   * @param range         the radius of the disc
+   * @param function      the function that decides which state replaces each
+   *                      block
+   * @param skippedCenter the center of the last disc that was frozen, or null
+   *                      to check every position in range
+   * @param claimed       positions to leave out, relative to the center. May be
+   *                      null.
+   * @param positions     a list to clear and fill with the packed positions
+   **/
+  public static void findAffectedPositions(final IWorldReader world, final BlockPos center, final int range,
+      final Function<BlockState, BlockState> function, @Nullable final BlockPos skippedCenter, @Nullable final AreaScanner.IShape claimed,
+      final LongArrayList positions) {
+    positions.clear();
+    // a function that starts another search gets its own finder
+    final Finder finder = FINDER.get().function == null ? FINDER.get() : new Finder();
+    final OffsetTable disc = OffsetTable.disc(range);
+    finder.begin(disc, center, function, skippedCenter, claimed, positions);
+    try {
+      // check 3-layer circle around this golem (disc, not sphere) to add positions to
+      // the map, skipping chunk sections that have nothing to freeze
+      AreaScanner.scan(world, center, disc, finder, finder);
+    } finally {
+      finder.end();
+    }
+  }
+
+  /**
+   * @param shape  a shape, or null
+   * @param center the center of the shape, or null
+   * @param pos    a position in range of the golem
+   * @return true if the position is in the shape. Used to skip positions that
+   *         were already frozen, or that another golem checked this tick.
+   **/
+  private static boolean isInShape(@Nullable final AreaScanner.IShape shape, @Nullable final BlockPos center, final BlockPos pos) {
+    return shape != null && center != null
+        && shape.contains(pos.getX() - center.getX(), pos.getY() - center.getY(), pos.getZ() - center.getZ());
   }
 
   public Function<BlockState, BlockState> getFunction() {
@@ -83,31 +213,85 @@ public final class IceGolemFreezeEvent extends Event {
 
   /**
    * Call this method to use a different enabled than the default one to
-   * determine which state should replace which blocks.
+   * determine which state should replace which blocks. The function may also
+   * be applied to states that are only in a chunk section's palette, to decide
+   * whether the section needs to be checked at all.
    *
    * @param toSet   the new {@code Function<BlockState, BlockState>}
-   * @param refresh when true, the event will call
-   *                {@link #initAffectedBlockList(int)} to refresh the list of
-   *                affected blocks.
+   * @param refresh when true, the list of affected blocks is found again the
+   *                next time it is used.
    * @see DefaultFreezeFunction
    **/
   public void setFunction(final Function<BlockState, BlockState> toSet, final boolean refresh) {
     this.freezeFunction = toSet;
     if (refresh) {
-      this.initAffectedBlockList(this.range);
+      this.stale = true;
     }
   }
 
   public List<BlockPos> getAffectedPositions() {
-    return this.affectedBlocks;
+    return this.getAffectedBlocks();
+  }
+
+  /**
+   * @return the same positions as {@link #getAffectedPositions()}, packed with
+   *         {@link BlockPos#toLong()}
+   **/
+  public LongArrayList getAffectedPackedPositions() {
+    return this.getAffectedBlocks().getPacked();
   }
 
   public boolean add(final BlockPos pos) {
-    return this.affectedBlocks.add(pos);
+    return this.getAffectedBlocks().add(pos);
   }
 
+  /**
+   * Removes a position in constant time. The order of the list is not kept.
+   *
+   * @param toRemove the position to remove
+   * @return true if the position was in the list
+   **/
   public boolean remove(final BlockPos toRemove) {
-    return this.affectedBlocks.remove(toRemove);
+    return this.getAffectedBlocks().removeUnordered(toRemove);
+  }
+
+  /**
+   * Decides which states and positions are added to the list during a single
+   * search, so that a search does not create any lambdas.
+   **/
+  private static final class Finder implements Predicate<BlockState>, AreaScanner.IVisitor {
+    private OffsetTable disc;
+    private BlockPos center;
+    private Function<BlockState, BlockState> function;
+    private BlockPos skippedCenter;
+    private AreaScanner.IShape claimed;
+    private LongArrayList positions;
+
+    private void begin(final OffsetTable lDisc, final BlockPos lCenter, final Function<BlockState, BlockState> lFunction,
+        @Nullable final BlockPos lSkippedCenter, @Nullable final AreaScanner.IShape lClaimed, final LongArrayList lPositions) {
+      this.disc = lDisc;
+      this.center = lCenter;
+      this.function = lFunction;
+      this.skippedCenter = lSkippedCenter;
+      this.claimed = lClaimed;
+      this.positions = lPositions;
+    }
+
+    private void end() {
+      begin(null, null, null, null, null, null);
+    }
+
+    @Override
+    public boolean test(final BlockState state) {
+      return function.apply(state) != state;
+    }
+
+    @Override
+    public void visit(final BlockPos.Mutable pos, final BlockState state) {
+      if (!isInShape(disc, skippedCenter, pos) && !isInShape(claimed, center, pos) && function.apply(state) != state) {
+        positions.add(pos.toLong());
+      }
+    }
   }
 
   public static class DefaultFreezeFunction implements Function<BlockState, BlockState> {
@@ -137,6 +321,17 @@ public final class IceGolemFreezeEvent extends Event {
       this.cobbleChance = cobbleChanceIn;
     }
 
+    /**
+     * Does not use the random, so this can be called from any thread.
+     *
+     * @param input a block state
+     * @return true if the default function would replace the state
+     **/
+    public static boolean isFreezable(final BlockState input) {
+      final Block block = input.getBlock();
+      return input.getMaterial().isLiquid() && (block == Blocks.WATER || block == Blocks.LAVA);
+    }
+
     @Override
     public BlockState apply(final BlockState input) {
       final BlockState cobbleState = Blocks.COBBLESTONE.getDefaultState();
@@ -1,16 +1,25 @@
 package com.mcmoddev.golems.events;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.area.AreaEffectCoordinator;
+import com.mcmoddev.golems.util.area.AreaScanner;
+import com.mcmoddev.golems.util.area.OffsetTable;
+import com.mcmoddev.golems.util.area.PackedBlockPosList;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.material.Material;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldReader;
 import net.minecraftforge.eventbus.api.Cancelable;
 import net.minecraftforge.eventbus.api.Event;
 
@@ -18,13 +27,30 @@ import net.minecraftforge.eventbus.api.Event;
  * This event exists for other mods or addons to handle and modify the Sponge
  * Golem's behavior. It is not handled in Extra Golems. To modify which blocks
  * count as 'water' you must call {@link #setAbsorbFunction(Function, boolean)}
- * and {@link #initAffectedBlockList(int)}, in that order.
+ * with {@code refresh} set to true. The affected positions are only found when
+ * a listener first asks for them, and the event is not created at all when
+ * nothing listens for it.
  */
 @Cancelable
 public final class SpongeGolemSoakEvent extends Event {
 
-  protected List<BlockPos> affectedBlocks;
+  private static final EventListenerCheck LISTENERS = EventListenerCheck.of(SpongeGolemSoakEvent.class);
+  /** Reused for each search, one per thread **/
+  private static final ThreadLocal<Finder> FINDER = ThreadLocal.withInitial(Finder::new);
+
+  /**
+   * Replaces water and water plants with air, and removes water from
+   * waterlogged blocks.
+   **/
+  public static final Function<BlockState, BlockState> DEFAULT_ABSORB_FUNCTION = (state) -> state.hasProperty(BlockStateProperties.WATERLOGGED)
+      ? state.with(BlockStateProperties.WATERLOGGED, false)
+      : (state.getMaterial() == Material.WATER || state.getBlock() == Blocks.KELP || state.getBlock() == Blocks.KELP_PLANT
+          || state.getBlock() == Blocks.SEAGRASS || state.getBlock() == Blocks.TALL_SEAGRASS ? Blocks.AIR.getDefaultState() : state);
+
+  protected PackedBlockPosList affectedBlocks;
   protected Function<BlockState, BlockState> absorbFunction;
+  /** True if the affected positions need to be found again before they are used **/
+  private boolean stale;
 
   public final GolemBase spongeGolem;
   public final BlockPos spongeGolemPos;
@@ -36,10 +62,26 @@ public final class SpongeGolemSoakEvent extends Event {
   public int updateFlag = 3;
 
   public SpongeGolemSoakEvent(final GolemBase golem, final BlockPos center, final int radius) {
-    this(golem, center, radius,
-        (state) -> state.hasProperty(BlockStateProperties.WATERLOGGED) ? state.with(BlockStateProperties.WATERLOGGED, false)
-            : (state.getMaterial() == Material.WATER || state.getBlock() == Blocks.KELP || state.getBlock() == Blocks.KELP_PLANT
-                || state.getBlock() == Blocks.SEAGRASS || state.getBlock() == Blocks.TALL_SEAGRASS ? Blocks.AIR.getDefaultState() : state));
+    this(golem, center, radius, DEFAULT_ABSORB_FUNCTION);
+  }
+
+  /**
+   * Uses positions that were already found instead of checking every position
+   * in range.
+   *
+   * @param golem     the Sponge Golem
+   * @param center    the center of the area
+   * @param radius    the radius of the area
+   * @param positions the packed positions to absorb, which all contain water.
+   *                  The list is used as-is, not copied.
+   **/
+  public SpongeGolemSoakEvent(final GolemBase golem, final BlockPos center, final int radius, final LongArrayList positions) {
+    this.setResult(Event.Result.ALLOW);
+    this.spongeGolem = golem;
+    this.spongeGolemPos = center;
+    this.range = radius;
+    this.absorbFunction = DEFAULT_ABSORB_FUNCTION;
+    this.affectedBlocks = new PackedBlockPosList(positions);
   }
 
   public SpongeGolemSoakEvent(final GolemBase golem, final BlockPos center, final int radius, final Function<BlockState, BlockState> function) {
@@ -47,31 +89,118 @@ public final class SpongeGolemSoakEvent extends Event {
     this.spongeGolem = golem;
     this.spongeGolemPos = center;
     this.range = radius;
+    this.affectedBlocks = new PackedBlockPosList();
     this.setAbsorbFunction(function, true);
   }
 
+  /**
+   * @return true if anything is listening for this event. When this is false,
+   *         golems absorb water without posting the event.
+   **/
+  public static boolean hasListeners() {
+    return LISTENERS.hasListeners();
+  }
+
   public void initAffectedBlockList(final int range) {
-    this.affectedBlocks = new ArrayList<>(range * range * range * 4);
-    final int MAX_DIS = range * range;
-    // check sphere around golem to absorb water
-    for (int i = -range; i <= range; i++) {
-      for (int j = -range; j <= range; j++) {
-        for (int k = -range; k <= range; k++) {
-          final BlockPos current = this.spongeGolemPos.add(i, j, k);
-          if (spongeGolemPos.distanceSq(current) <= MAX_DIS) {
-            final BlockState state = this.spongeGolem.world.getBlockState(current);
-            final BlockState replace = this.absorbFunction.apply(state);
-            if (replace != null && replace != state) {
-              this.affectedBlocks.add(current);
-            }
-          }
-        }
+    this.stale = false;
+    this.affectedBlocks.clear();
+    final OffsetTable sphere = OffsetTable.sphere(range);
+    // positions that another sponge golem already checked this tick
+    final AreaEffectCoordinator coordinator = AreaEffectCoordinator.get(this.spongeGolem.world);
+    final AreaScanner.IShape claimed = coordinator.getClaimedByOthers(AreaEffectCoordinator.Effect.SOAK, this.spongeGolem, this.spongeGolemPos, sphere);
+    findAffectedPositions(this.spongeGolem.world, this.spongeGolemPos, range, this.absorbFunction, claimed, this.affectedBlocks.getPacked());
+    coordinator.claim(AreaEffectCoordinator.Effect.SOAK, this.spongeGolem, this.spongeGolemPos, sphere);
+  }
+
+  /**
+   * Finds the positions in a sphere that the absorb function would change,
+   * without checking what other golems have claimed.
+   *
+   * @param world     the world
+   * @param center    the center of the sphere
+   * @param range     the radius of the sphere
+   * @param function  the absorb function
+   * @param claimed   positions to leave out, relative to the center. May be
+   *                  null.
+   * @param positions a list to add the packed positions to
+   **/
+  public static void findAffectedPositions(final IWorldReader world, final BlockPos center, final int range,
+      final Function<BlockState, BlockState> function, @Nullable final AreaScanner.IShape claimed, final LongArrayList positions) {
+    // a function that starts another search gets its own finder
+    final Finder finder = FINDER.get().function == null ? FINDER.get() : new Finder();
+    finder.begin(center, function, claimed, positions);
+    try {
+      // check sphere around golem to absorb water, skipping chunk sections that have no water
+      AreaScanner.scan(world, center, OffsetTable.sphere(range), finder, finder);
+    } finally {
+      finder.end();
+    }
+  }
+
+  /** Finds the affected positions if they have not been found yet **/
+  private PackedBlockPosList getAffectedBlocks() {
+    if (this.stale) {
+      this.initAffectedBlockList(this.range);
+    }
+    return this.affectedBlocks;
+  }
+
+  /**
+   * @param function the absorb function
+   * @param state    a block state
+   * @return true if the absorb function would change the state
+   **/
+  private static boolean canAbsorb(final Function<BlockState, BlockState> function, final BlockState state) {
+    final BlockState replace = function.apply(state);
+    return replace != null && replace != state;
+  }
+
+  /**
+   * Decides which states and positions are added to the list during a single
+   * search, so that a search does not create any lambdas.
+   **/
+  private static final class Finder implements Predicate<BlockState>, AreaScanner.IVisitor {
+    private BlockPos center;
+    private Function<BlockState, BlockState> function;
+    private AreaScanner.IShape claimed;
+    private LongArrayList positions;
+
+    private void begin(final BlockPos lCenter, final Function<BlockState, BlockState> lFunction, @Nullable final AreaScanner.IShape lClaimed,
+        final LongArrayList lPositions) {
+      this.center = lCenter;
+      this.function = lFunction;
+      this.claimed = lClaimed;
+      this.positions = lPositions;
+    }
+
+    private void end() {
+      begin(null, null, null, null);
+    }
+
+    @Override
+    public boolean test(final BlockState state) {
+      return canAbsorb(function, state);
+    }
+
+    @Override
+    public void visit(final BlockPos.Mutable pos, final BlockState state) {
+      if ((claimed == null || !claimed.contains(pos.getX() - center.getX(), pos.getY() - center.getY(), pos.getZ() - center.getZ()))
+          && canAbsorb(function, state)) {
+        positions.add(pos.toLong());
       }
     }
   }
 
   public List<BlockPos> getPositionList() {
-    return this.affectedBlocks;
+    return this.getAffectedBlocks();
+  }
+
+  /**
+   * @return the same positions as {@link #getPositionList()}, packed with
+   *         {@link BlockPos#toLong()}
+   **/
+  public LongArrayList getPackedPositionList() {
+    return this.getAffectedBlocks().getPacked();
   }
 
   public Function<BlockState, BlockState> getAbsorbFunction() {
@@ -83,18 +212,24 @@ public final class SpongeGolemSoakEvent extends Event {
    * determine which state should replace which blocks.
    *
    * @param function the new {@code Function<BlockState, BlockState>}
-   * @param refresh  when true, the event will call
-   *                 {@link #initAffectedBlockList(int)} to refresh the list of
-   *                 affected blocks.
+   * @param refresh  when true, the list of affected blocks is found again the
+   *                 next time it is used.
    **/
   public void setAbsorbFunction(final Function<BlockState, BlockState> function, final boolean refresh) {
     this.absorbFunction = function;
     if (refresh) {
-      this.initAffectedBlockList(this.range);
+      this.stale = true;
     }
   }
 
+  /**
+   * Removes a position in constant time by moving the last position into its
+   * place, so the order of the list is not kept.
+   *
+   * @param toRemove the position to remove
+   * @return true if the position was in the list
+   **/
   public boolean removeBlockPos(final BlockPos toRemove) {
-    return this.affectedBlocks.remove(toRemove);
+    return this.getAffectedBlocks().removeUnordered(toRemove);
   }
 }
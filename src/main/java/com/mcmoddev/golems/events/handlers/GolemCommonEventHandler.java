@@ -10,7 +10,12 @@ import com.mcmoddev.golems.entity.FurnaceGolem;
 import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.entity.base.IMultiTexturedGolem;
 import com.mcmoddev.golems.main.ExtraGolems;
+import com.mcmoddev.golems.network.GolemNetwork;
+import com.mcmoddev.golems.util.GolemBlockEditQueue;
 import com.mcmoddev.golems.util.GolemContainer;
+import com.mcmoddev.golems.util.GolemDataManager;
+import com.mcmoddev.golems.util.area.AreaEffectCoordinator;
+import com.mcmoddev.golems.util.area.AreaScanner;
 import com.mcmoddev.golems.util.config.ExtraGolemsConfig;
 
 import net.minecraft.block.Blocks;
@@ -23,19 +28,72 @@ import net.minecraft.entity.merchant.villager.VillagerEntity;
 import net.minecraft.entity.merchant.villager.VillagerProfession;
 import net.minecraft.entity.passive.IronGolemEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.living.LivingEvent;
 import net.minecraftforge.event.entity.living.LivingSetAttackTargetEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
 
 public class GolemCommonEventHandler {
 
+  /**
+   * Applies the block changes that golems made during the world tick
+   **/
+  @SubscribeEvent
+  public void onWorldTick(final TickEvent.WorldTickEvent event) {
+    if (event.phase == TickEvent.Phase.END && !event.world.isRemote) {
+      GolemBlockEditQueue.tick(event.world);
+    }
+  }
+
+  /**
+   * Forgets the areas that golems claimed in a world that is being unloaded
+   **/
+  @SubscribeEvent
+  public void onWorldUnload(final WorldEvent.Unload event) {
+    if (event.getWorld() instanceof World && !event.getWorld().isRemote()) {
+      AreaEffectCoordinator.remove((World) event.getWorld());
+    }
+  }
+
+  /**
+   * Logs how many chunk sections the golem area scans skipped
+   **/
+  @SubscribeEvent
+  public void onServerStopping(final FMLServerStoppingEvent event) {
+    AreaScanner.logMetrics();
+  }
+
+  /**
+   * Loads golem data from data packs when the server starts and on each
+   * {@code /reload}
+   **/
+  @SubscribeEvent
+  public void onAddReloadListeners(final AddReloadListenerEvent event) {
+    event.addListener(new GolemDataManager());
+  }
+
+  /**
+   * Sends the golem data pack settings to each player that joins
+   **/
+  @SubscribeEvent
+  public void onPlayerLoggedIn(final PlayerEvent.PlayerLoggedInEvent event) {
+    if (event.getPlayer() instanceof ServerPlayerEntity) {
+      GolemNetwork.sendData((ServerPlayerEntity) event.getPlayer());
+    }
+  }
+
   /**
    * Checks if a Carved Pumpkin was placed and, if so, attempts to spawn a golem
    * at that location where enabled by the config.
@@ -138,8 +196,7 @@ public class GolemCommonEventHandler {
 
   @Nullable
   private static EntityType<? extends GolemBase> getGolemToSpawn(final World world, final BlockPos pos) {
-    final List<GolemContainer> options = ExtraGolemsConfig.getVillagerGolems();
-    final GolemContainer choice = options.isEmpty() ? null : options.get(world.getRandom().nextInt(options.size()));
+    final GolemContainer choice = ExtraGolemsConfig.getVillagerGolemTable().sample(world.getRandom());
     return choice != null ? choice.getEntityType() : null;
   }
 }
@@ -1,5 +1,9 @@
 package com.mcmoddev.golems.integration;
 
+import com.mcmoddev.golems.main.ExtraGolems;
+import com.mcmoddev.golems.main.ExtraGolemsEntities;
+import com.mcmoddev.golems.main.StartupReport;
+
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.InterModEnqueueEvent;
@@ -33,57 +37,65 @@ public final class AddonLoader {
   public static boolean isClibLoaded() { return ModList.get().isLoaded(CLIB_MODID); }
   public static boolean isNNOWLoaded() { return ModList.get().isLoaded(NNOW_MODID); }
   
+  /**
+   * Builds the golems from Extra Golems and from each loaded addon, in the same
+   * order every time: Extra Golems first, then each addon in the order below.
+   * This runs on the mod loading thread because building a golem posts a
+   * {@link com.mcmoddev.golems.events.GolemContainerBuildEvent} that other mods
+   * may listen to.
+   **/
   public static void initEntityTypes() {
+    StartupReport.time(ExtraGolems.MODID + " entity types", () -> ExtraGolemsEntities.initEntityTypes());
     if(isQuarkLoaded()) {
-      com.mcmoddev.golems_quark.QuarkGolemsEntities.initEntityTypes();
+      StartupReport.time(QUARK_GOLEMS_MODID + " entity types", () -> com.mcmoddev.golems_quark.QuarkGolemsEntities.initEntityTypes());
     }
     if(isThermalLoaded()) {
-      com.mcmoddev.golems_thermal.ThermalGolemsEntities.initEntityTypes();
+      StartupReport.time(THERMAL_GOLEMS_MODID + " entity types", () -> com.mcmoddev.golems_thermal.ThermalGolemsEntities.initEntityTypes());
     }
     if(isMekanismLoaded()) {
-      com.mcmoddev.golems_mekanism.MekanismGolemsEntities.initEntityTypes();;
+      StartupReport.time(MEKANISM_GOLEMS_MODID + " entity types", () -> com.mcmoddev.golems_mekanism.MekanismGolemsEntities.initEntityTypes());
     }
     if(isIELoaded()) {
-      com.mcmoddev.golems_immersiveengineering.IEGolemsEntities.initEntityTypes();
+      StartupReport.time(IE_GOLEMS_MODID + " entity types", () -> com.mcmoddev.golems_immersiveengineering.IEGolemsEntities.initEntityTypes());
     }
     if(isClibLoaded()) {
-      com.mcmoddev.golems_clib.ClibGolemsEntities.initEntityTypes();
+      StartupReport.time(CLIB_GOLEMS_MODID + " entity types", () -> com.mcmoddev.golems_clib.ClibGolemsEntities.initEntityTypes());
     }
   }
   
   public static void interModEnqueueEvent(final InterModEnqueueEvent event) {
     if(isQuarkLoaded()) {
-      com.mcmoddev.golems_quark.QuarkGolemsEntities.interModEnqueueEvent(event);
+      StartupReport.time(QUARK_GOLEMS_MODID + " imc", () -> com.mcmoddev.golems_quark.QuarkGolemsEntities.interModEnqueueEvent(event));
     }
     if(isThermalLoaded()) {
-      com.mcmoddev.golems_thermal.ThermalGolemsEntities.interModEnqueueEvent(event);
+      StartupReport.time(THERMAL_GOLEMS_MODID + " imc", () -> com.mcmoddev.golems_thermal.ThermalGolemsEntities.interModEnqueueEvent(event));
     }
     if(isMekanismLoaded()) {
-      com.mcmoddev.golems_mekanism.MekanismGolemsEntities.interModEnqueueEvent(event);
+      StartupReport.time(MEKANISM_GOLEMS_MODID + " imc", () -> com.mcmoddev.golems_mekanism.MekanismGolemsEntities.interModEnqueueEvent(event));
     }
     if(isIELoaded()) {
-      com.mcmoddev.golems_immersiveengineering.IEGolemsEntities.interModEnqueueEvent(event);
+      StartupReport.time(IE_GOLEMS_MODID + " imc", () -> com.mcmoddev.golems_immersiveengineering.IEGolemsEntities.interModEnqueueEvent(event));
     }
     if(isClibLoaded()) {
-      com.mcmoddev.golems_clib.ClibGolemsEntities.interModEnqueueEvent(event);
+      StartupReport.time(CLIB_GOLEMS_MODID + " imc", () -> com.mcmoddev.golems_clib.ClibGolemsEntities.interModEnqueueEvent(event));
     }
   }
   
   public static void setupEvent(final FMLCommonSetupEvent event) {
     if(isQuarkLoaded()) {
-      com.mcmoddev.golems_quark.QuarkGolemsEntities.setupEvent(event);
+      StartupReport.time(QUARK_GOLEMS_MODID + " setup", () -> com.mcmoddev.golems_quark.QuarkGolemsEntities.setupEvent(event));
     }
     if(isThermalLoaded()) {
-      com.mcmoddev.golems_thermal.ThermalGolemsEntities.setupEvent(event);
+      StartupReport.time(THERMAL_GOLEMS_MODID + " setup", () -> com.mcmoddev.golems_thermal.ThermalGolemsEntities.setupEvent(event));
     }
     if(isMekanismLoaded()) {
-      com.mcmoddev.golems_mekanism.MekanismGolemsEntities.setupEvent(event);
+      StartupReport.time(MEKANISM_GOLEMS_MODID + " setup", () -> com.mcmoddev.golems_mekanism.MekanismGolemsEntities.setupEvent(event));
     }
     if(isIELoaded()) {
-      com.mcmoddev.golems_immersiveengineering.IEGolemsEntities.setupEvent(event);
+      StartupReport.time(IE_GOLEMS_MODID + " setup", () -> com.mcmoddev.golems_immersiveengineering.IEGolemsEntities.setupEvent(event));
     }
     if(isClibLoaded()) {
-      com.mcmoddev.golems_clib.ClibGolemsEntities.setupEvent(event);
+      StartupReport.time(CLIB_GOLEMS_MODID + " setup", () -> com.mcmoddev.golems_clib.ClibGolemsEntities.setupEvent(event));
     }
   }
   
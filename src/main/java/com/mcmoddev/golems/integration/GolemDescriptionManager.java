@@ -1,6 +1,6 @@
 package com.mcmoddev.golems.integration;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.mcmoddev.golems.entity.DispenserGolem;
@@ -34,12 +34,15 @@ public abstract class GolemDescriptionManager {
    * Checks the passed golem for various characteristics, making a String for each
    * one. Use this from a child class in order to populate your descriptions.
    *
-   * @return a LinkedList containing all descriptions that apply to the passed
-   *         golem
+   * Only the attack, fuel, and arrow amounts are built for each call, the rest
+   * come from {@link com.mcmoddev.golems.util.GolemContainer#getDescriptions()}.
+   *
+   * @return a List containing all descriptions that apply to the passed golem
    **/
   @SuppressWarnings("WeakerAccess")
-  public List<IFormattableTextComponent> getEntityDescription(final GolemBase golem) {    
-    List<IFormattableTextComponent> list = new LinkedList<>();
+  public List<IFormattableTextComponent> getEntityDescription(final GolemBase golem) {
+    final List<IFormattableTextComponent> descriptions = golem.getGolemContainer().getDescriptions();
+    final List<IFormattableTextComponent> list = new ArrayList<>(descriptions.size() + 2);
     // add attack damage to tip enabled (usually checks if sneaking)
     if (showAttack) {
       double attack = (golem.getAttribute(Attributes.ATTACK_DAMAGE).getValue());
@@ -60,7 +63,7 @@ public abstract class GolemDescriptionManager {
 
     // add special information
     if ((!golem.isChild() && showSpecial) || (golem.isChild() && showSpecialChild)) {
-      golem.getGolemContainer().addDescription(list);
+      list.addAll(descriptions);
     }
     return list;
   }
@@ -3,6 +3,7 @@ package com.mcmoddev.golems.main;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.mcmoddev.golems.blocks.BlockGolemAssembler;
 import com.mcmoddev.golems.blocks.BlockGolemHead;
 import com.mcmoddev.golems.blocks.BlockUtilityGlow;
 import com.mcmoddev.golems.blocks.BlockUtilityPower;
@@ -12,9 +13,11 @@ import com.mcmoddev.golems.integration.AddonLoader;
 import com.mcmoddev.golems.items.ItemBedrockGolem;
 import com.mcmoddev.golems.items.ItemGolemSpell;
 import com.mcmoddev.golems.items.ItemInfoBook;
+import com.mcmoddev.golems.network.GolemNetwork;
 import com.mcmoddev.golems.proxies.ProxyClient;
 import com.mcmoddev.golems.proxies.ProxyCommon;
 import com.mcmoddev.golems.proxies.ProxyServer;
+import com.mcmoddev.golems.tileentity.TileEntityGolemAssembler;
 import com.mcmoddev.golems.util.GolemRegistrar;
 import com.mcmoddev.golems.util.config.ExtraGolemsConfig;
 
@@ -26,6 +29,7 @@ import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemGroup;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntityType;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.MinecraftForge;
@@ -37,6 +41,7 @@ import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.InterModEnqueueEvent;
+import net.minecraftforge.fml.event.lifecycle.InterModProcessEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 
 @Mod(ExtraGolems.MODID)
@@ -54,23 +59,34 @@ public class ExtraGolems {
   public ExtraGolems() {
     FMLJavaModLoadingContext.get().getModEventBus().addListener(this::setup);
     FMLJavaModLoadingContext.get().getModEventBus().addListener(this::enqueueIMC);
+    FMLJavaModLoadingContext.get().getModEventBus().addListener(this::processIMC);
     MinecraftForge.EVENT_BUS.register(new GolemCommonEventHandler());
     ExtraGolems.PROXY.registerListeners();
-    ExtraGolemsEntities.initEntityTypes();
+    // build golems for this mod and each addon
     AddonLoader.initEntityTypes();
     // fire GolemRegistrar event for any listening child mods (addons)
-    MinecraftForge.EVENT_BUS.post(new GolemRegistrarEvent());
+    StartupReport.time("registrar event", () -> MinecraftForge.EVENT_BUS.post(new GolemRegistrarEvent()));
     // set up config file
-    ExtraGolemsConfig.setupConfig();
+    StartupReport.time("config", () -> ExtraGolemsConfig.setupConfig());
     ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, ExtraGolemsConfig.COMMON_CONFIG);
   }
 
   private void setup(final FMLCommonSetupEvent event) {
-    AddonLoader.setupEvent(event);
+    GolemNetwork.register();
+    StartupReport.time("setup", () -> AddonLoader.setupEvent(event));
   }
 
   private void enqueueIMC(final InterModEnqueueEvent event) {
-    AddonLoader.interModEnqueueEvent(event);
+    StartupReport.time("imc", () -> AddonLoader.interModEnqueueEvent(event));
+  }
+
+  private void processIMC(final InterModProcessEvent event) {
+    // other mods may still be registering golems on other threads, so wait
+    // until every mod has handled this event
+    event.enqueueWork(() -> {
+      StartupReport.time("freeze", () -> GolemRegistrar.freeze());
+      StartupReport.log();
+    });
   }
 
   @SubscribeEvent
@@ -93,7 +109,8 @@ public class ExtraGolems {
         return true;
       }
     }.setRegistryName(GolemItems.GOLEM_HEAD.getRegistryName()), new ItemBedrockGolem().setRegistryName(ExtraGolems.MODID, "spawn_bedrock_golem"),
-        new ItemGolemSpell().setRegistryName(ExtraGolems.MODID, "golem_paper"), new ItemInfoBook().setRegistryName(ExtraGolems.MODID, "info_book"));
+        new ItemGolemSpell().setRegistryName(ExtraGolems.MODID, "golem_paper"), new ItemInfoBook().setRegistryName(ExtraGolems.MODID, "info_book"),
+        new BlockItem(GolemItems.GOLEM_ASSEMBLER, new Item.Properties().group(ItemGroup.REDSTONE)).setRegistryName(GolemItems.GOLEM_ASSEMBLER.getRegistryName()));
   }
 
   @SubscribeEvent
@@ -101,7 +118,15 @@ public class ExtraGolems {
     ExtraGolems.LOGGER.info("registerBlocks");
     event.getRegistry().registerAll(new BlockGolemHead().setRegistryName(ExtraGolems.MODID, "golem_head"),
         new BlockUtilityGlow(Material.GLASS, 1.0F).setRegistryName(ExtraGolems.MODID, "light_provider"),
-        new BlockUtilityPower(15).setRegistryName(ExtraGolems.MODID, "power_provider"));
+        new BlockUtilityPower(15).setRegistryName(ExtraGolems.MODID, "power_provider"),
+        new BlockGolemAssembler().setRegistryName(ExtraGolems.MODID, "golem_assembler"));
+  }
+
+  @SubscribeEvent
+  public static void registerTileEntities(final RegistryEvent.Register<TileEntityType<?>> event) {
+    ExtraGolems.LOGGER.info("registerTileEntities");
+    event.getRegistry().register(TileEntityType.Builder.create(TileEntityGolemAssembler::new, GolemItems.GOLEM_ASSEMBLER)
+        .build(null).setRegistryName(ExtraGolems.MODID, "golem_assembler"));
   }
 
   @SubscribeEvent
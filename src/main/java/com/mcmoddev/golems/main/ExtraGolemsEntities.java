@@ -359,6 +359,7 @@ public final class ExtraGolemsEntities {
         .setHealth(20.0D).setAttack(1.5D).addBlocks(Blocks.SPONGE, Blocks.WET_SPONGE)
         .addSpecial(SpongeGolem.RANGE, Integer.valueOf(5), "Radial distance at which this golem can absorb water (Warning: larger values cause lag)")
         .addSpecial(SpongeGolem.INTERVAL, Integer.valueOf(10), "Number of ticks between each water-check; increase to reduce lag")
+        .addSpecial(SpongeGolem.LIMIT, Integer.valueOf(128), "Maximum number of water blocks absorbed in each water-check; decrease to reduce lag")
         .addSpecial(SpongeGolem.ALLOW_SPECIAL, true, "Whether this golem can absorb water",
             new TranslationTextComponent("entitytip.absorbs_water").mergeStyle(TextFormatting.GOLD))
         .setSwimMode(SwimMode.FLOAT).setSound(SoundEvents.BLOCK_WOOL_STEP)
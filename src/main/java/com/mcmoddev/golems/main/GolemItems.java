@@ -2,10 +2,12 @@ package com.mcmoddev.golems.main;
 
 import com.mcmoddev.golems.container.ContainerDispenserGolem;
 import com.mcmoddev.golems.container.ContainerPortableWorkbench;
+import com.mcmoddev.golems.tileentity.TileEntityGolemAssembler;
 
 import net.minecraft.block.Block;
 import net.minecraft.inventory.container.ContainerType;
 import net.minecraft.item.Item;
+import net.minecraft.tileentity.TileEntityType;
 import net.minecraftforge.registries.ObjectHolder;
 
 @ObjectHolder(ExtraGolems.MODID)
@@ -35,6 +37,13 @@ public final class GolemItems {
   @ObjectHolder("power_provider")
   public static final Block UTILITY_POWER = null;
 
+  @ObjectHolder("golem_assembler")
+  public static final Block GOLEM_ASSEMBLER = null;
+
+  ////// TILE ENTITIES //////
+  @ObjectHolder("golem_assembler")
+  public static final TileEntityType<TileEntityGolemAssembler> GOLEM_ASSEMBLER_TILE = null;
+
   ////// OTHER //////
   @ObjectHolder("crafting_portable")
   public static final ContainerType<ContainerPortableWorkbench> CRAFTING_GOLEM = new ContainerType<>(ContainerPortableWorkbench::new);
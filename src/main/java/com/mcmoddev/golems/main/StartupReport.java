@@ -0,0 +1,74 @@
+package com.mcmoddev.golems.main;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each part of mod loading takes, by addon and by phase, so
+ * that it is easy to see where launch time is spent. The report is logged
+ * once the golem registry is frozen.
+ **/
+public final class StartupReport {
+
+  /** Time spent in each phase, in the order that the phases first finished **/
+  private static final Map<String, Long> timings = new LinkedHashMap<>();
+
+  private StartupReport() {
+    //
+  }
+
+  /**
+   * Runs the task and records how long it took.
+   *
+   * @param phase a short name for this part of loading, such as "golems_quark setup"
+   * @param task  the task to run
+   **/
+  public static void time(final String phase, final Runnable task) {
+    time(phase, () -> {
+      task.run();
+      return null;
+    });
+  }
+
+  /**
+   * Runs the task and records how long it took.
+   *
+   * @param phase a short name for this part of loading
+   * @param task  the task to run
+   * @return the result of the task
+   **/
+  public static <T> T time(final String phase, final Supplier<T> task) {
+    final long start = System.nanoTime();
+    try {
+      return task.get();
+    } finally {
+      record(phase, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Adds to the time spent in a phase. Safe to call from any thread.
+   *
+   * @param phase a short name for this part of loading
+   * @param nanos the time spent, in nanoseconds
+   **/
+  public static void record(final String phase, final long nanos) {
+    synchronized (timings) {
+      timings.merge(phase, nanos, Long::sum);
+    }
+  }
+
+  /**
+   * Logs the time spent in each phase and clears the report.
+   **/
+  public static void log() {
+    final StringBuilder report = new StringBuilder("Extra Golems startup report:");
+    synchronized (timings) {
+      timings.forEach((phase, nanos) -> report.append(String.format("%n  %-32s %6d ms", phase, TimeUnit.NANOSECONDS.toMillis(nanos))));
+      timings.clear();
+    }
+    ExtraGolems.LOGGER.info("%s", report);
+  }
+}
@@ -0,0 +1,48 @@
+package com.mcmoddev.golems.network;
+
+import java.util.Optional;
+
+import com.mcmoddev.golems.main.ExtraGolems;
+
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.network.NetworkDirection;
+import net.minecraftforge.fml.network.NetworkRegistry;
+import net.minecraftforge.fml.network.PacketDistributor;
+import net.minecraftforge.fml.network.simple.SimpleChannel;
+
+/**
+ * The network channel used to send golem settings from the server to clients.
+ **/
+public final class GolemNetwork {
+
+  private static final String PROTOCOL_VERSION = "1";
+
+  public static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(new ResourceLocation(ExtraGolems.MODID, "main"),
+      () -> PROTOCOL_VERSION, PROTOCOL_VERSION::equals, PROTOCOL_VERSION::equals);
+
+  private GolemNetwork() {
+    //
+  }
+
+  /** Registers every message. Called once during common setup. **/
+  public static void register() {
+    int id = 0;
+    CHANNEL.registerMessage(id++, SGolemDataPacket.class, SGolemDataPacket::encode, SGolemDataPacket::decode,
+        SGolemDataPacket::handle, Optional.of(NetworkDirection.PLAY_TO_CLIENT));
+  }
+
+  /**
+   * Sends the current golem data pack settings to one player.
+   *
+   * @param player the player
+   **/
+  public static void sendData(final ServerPlayerEntity player) {
+    CHANNEL.send(PacketDistributor.PLAYER.with(() -> player), SGolemDataPacket.current());
+  }
+
+  /** Sends the current golem data pack settings to every player **/
+  public static void sendDataToAll() {
+    CHANNEL.send(PacketDistributor.ALL.noArg(), SGolemDataPacket.current());
+  }
+}
@@ -0,0 +1,60 @@
+package com.mcmoddev.golems.network;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
+import com.mcmoddev.golems.util.GolemData;
+import com.mcmoddev.golems.util.GolemDescription;
+import com.mcmoddev.golems.util.GolemRegistrar;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+/**
+ * Sent from the server to clients with the {@link GolemData} of every golem,
+ * so that the client shows the same health, attack, swim mode, and building
+ * blocks as the server.
+ **/
+public final class SGolemDataPacket {
+
+  private final ImmutableMap<ResourceLocation, GolemData> data;
+
+  public SGolemDataPacket(final ImmutableMap<ResourceLocation, GolemData> dataIn) {
+    this.data = dataIn;
+  }
+
+  /** @return a packet with the golem data that is currently loaded **/
+  public static SGolemDataPacket current() {
+    return new SGolemDataPacket(GolemRegistrar.getData());
+  }
+
+  public static void encode(final SGolemDataPacket msg, final PacketBuffer buf) {
+    buf.writeVarInt(msg.data.size());
+    for (final Map.Entry<ResourceLocation, GolemData> e : msg.data.entrySet()) {
+      buf.writeResourceLocation(e.getKey());
+      e.getValue().write(buf);
+    }
+  }
+
+  public static SGolemDataPacket decode(final PacketBuffer buf) {
+    final ImmutableMap.Builder<ResourceLocation, GolemData> data = ImmutableMap.builder();
+    for (int i = buf.readVarInt(); i > 0; i--) {
+      data.put(buf.readResourceLocation(), GolemData.read(buf));
+    }
+    return new SGolemDataPacket(data.build());
+  }
+
+  public static void handle(final SGolemDataPacket msg, final Supplier<NetworkEvent.Context> ctx) {
+    final NetworkEvent.Context context = ctx.get();
+    // the integrated server already shares its data with the client
+    if (!context.getNetworkManager().isLocalChannel()) {
+      context.enqueueWork(() -> {
+        GolemRegistrar.loadData(msg.data);
+        GolemDescription.invalidateAll();
+      });
+    }
+    context.setPacketHandled(true);
+  }
+}
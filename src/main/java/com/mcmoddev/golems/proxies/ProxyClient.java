@@ -10,6 +10,7 @@ import com.mcmoddev.golems.main.GolemItems;
 import com.mcmoddev.golems.renders.GolemRenderType;
 import com.mcmoddev.golems.renders.GolemRenderer;
 import com.mcmoddev.golems.renders.model.SimpleTextureLayer;
+import com.mcmoddev.golems.util.GolemDescription;
 import com.mcmoddev.golems.util.GolemNames;
 import com.mcmoddev.golems.util.GolemRegistrar;
 import com.mcmoddev.golems_thermal.ThermalGolemNames;
@@ -25,6 +26,8 @@ import net.minecraft.resources.IReloadableResourceManager;
 import net.minecraft.resources.IResourceManager;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.client.registry.RenderingRegistry;
+import net.minecraftforge.resource.ISelectiveResourceReloadListener;
+import net.minecraftforge.resource.VanillaResourceType;
 
 public final class ProxyClient extends ProxyCommon {
 
@@ -45,6 +48,12 @@ public final class ProxyClient extends ProxyCommon {
         }
         
       });
+      // add a listener to rebuild golem descriptions in the new language
+      ((IReloadableResourceManager)manager).addReloadListener((ISelectiveResourceReloadListener) (m, types) -> {
+        if (types.test(VanillaResourceType.LANGUAGES)) {
+          GolemDescription.invalidateAll();
+        }
+      });
     }
   }
 
@@ -0,0 +1,231 @@
+package com.mcmoddev.golems.tileentity;
+
+import com.mcmoddev.golems.blocks.BlockGolemAssembler;
+import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.main.ExtraGolems;
+import com.mcmoddev.golems.main.GolemItems;
+import com.mcmoddev.golems.util.GolemContainer;
+import com.mcmoddev.golems.util.GolemRegistrar;
+import com.mcmoddev.golems.util.config.ExtraGolemsConfig;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.inventory.ItemStackHelper;
+import net.minecraft.inventory.container.Container;
+import net.minecraft.inventory.container.DispenserContainer;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.tileentity.ITickableTileEntity;
+import net.minecraft.tileentity.LockableLootTileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.NonNullList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.TranslationTextComponent;
+
+/**
+ * Holds a golem head and building blocks, and spawns the matching golem in
+ * front of the Golem Assembler. The golem is found directly from the items in
+ * the inventory, so no blocks are placed in the world and no construction
+ * pattern is scanned. The assembler does nothing while it is powered by
+ * redstone.
+ *
+ * @see BlockGolemAssembler
+ **/
+public class TileEntityGolemAssembler extends LockableLootTileEntity implements ITickableTileEntity {
+
+  public static final int INVENTORY_SIZE = 9;
+
+  private static final String KEY_COOLDOWN = "BuildCooldown";
+
+  private NonNullList<ItemStack> inventory = NonNullList.withSize(INVENTORY_SIZE, ItemStack.EMPTY);
+  private int buildCooldown;
+  /** False when the inventory has not changed since no golem could be found **/
+  private boolean checkInventory = true;
+
+  public TileEntityGolemAssembler() {
+    super(GolemItems.GOLEM_ASSEMBLER_TILE);
+  }
+
+  @Override
+  public void tick() {
+    if (this.world == null || this.world.isRemote()) {
+      return;
+    }
+    if (this.buildCooldown > 0) {
+      this.buildCooldown--;
+      return;
+    }
+    if (this.checkInventory && !this.world.isBlockPowered(this.pos)) {
+      // attempt to build a golem at most once per interval
+      this.buildCooldown = ExtraGolemsConfig.assemblerBuildInterval();
+      tryAssemble();
+    }
+  }
+
+  /**
+   * Finds a golem that can be built from the items in the inventory and, if
+   * there is room in front of the assembler, spawns it and consumes the items.
+   * If no golem can be built from the items, the inventory is not checked again
+   * until it changes.
+   *
+   * @return true if a golem was built
+   **/
+  protected boolean tryAssemble() {
+    final Item head = GolemItems.GOLEM_HEAD.asItem();
+    final int headSlot = findSlot(head);
+    if (headSlot < 0) {
+      this.checkInventory = false;
+      return false;
+    }
+    for (int i = 0; i < this.inventory.size(); i++) {
+      final ItemStack stack = this.inventory.get(i);
+      if (stack.isEmpty() || !(stack.getItem() instanceof BlockItem) || stack.getItem() == head) {
+        continue;
+      }
+      final Block block = ((BlockItem) stack.getItem()).getBlock();
+      final GolemContainer container = GolemRegistrar.getContainer(block, block, block, block);
+      // each building block in the golem's pattern uses one item
+      final int needed = container != null ? container.getPattern().getBuildingBlockCount() : 0;
+      if (container != null && container.isEnabled() && countItem(stack.getItem()) >= needed) {
+        if (spawnGolem(container, block.getDefaultState())) {
+          this.inventory.get(headSlot).shrink(1);
+          consumeItem(stack.getItem(), needed);
+          this.markDirty();
+          return true;
+        }
+        // there was no room for the golem, so try again later
+        return false;
+      }
+    }
+    this.checkInventory = false;
+    return false;
+  }
+
+  /**
+   * Spawns the golem in front of the assembler, facing away from it.
+   *
+   * @param container the GolemContainer to spawn
+   * @param state     the BlockState that the golem is made from
+   * @return true if there was room and the golem was spawned
+   **/
+  protected boolean spawnGolem(final GolemContainer container, final BlockState state) {
+    final Direction facing = this.getBlockState().get(BlockGolemAssembler.HORIZONTAL_FACING);
+    final BlockPos spawnPos = this.pos.offset(facing);
+    final GolemBase golem = container.getEntityType().create(this.world);
+    if (golem == null) {
+      return false;
+    }
+    golem.setLocationAndAngles(spawnPos.getX() + 0.5D, spawnPos.getY(), spawnPos.getZ() + 0.5D, facing.getHorizontalAngle(), 0.0F);
+    if (!this.world.hasNoCollisions(golem)) {
+      return false;
+    }
+    golem.setPlayerCreated(true);
+    ExtraGolems.LOGGER.debug("[Extra Golems]: Assembling golem " + golem.toString());
+    this.world.addEntity(golem);
+    golem.onBuilt(state, state, state, state);
+    return true;
+  }
+
+  /**
+   * @param item the Item to find
+   * @return the first slot that holds the given item, or -1 if none is found
+   **/
+  private int findSlot(final Item item) {
+    for (int i = 0; i < this.inventory.size(); i++) {
+      if (this.inventory.get(i).getItem() == item) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param item the Item to count
+   * @return the total number of the given item in all slots
+   **/
+  private int countItem(final Item item) {
+    int count = 0;
+    for (final ItemStack stack : this.inventory) {
+      if (stack.getItem() == item) {
+        count += stack.getCount();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Removes the given number of items, taking them from the first slots that
+   * hold the item.
+   *
+   * @param item   the Item to remove
+   * @param amount the number of items to remove
+   **/
+  private void consumeItem(final Item item, final int amount) {
+    int remaining = amount;
+    for (int i = 0; i < this.inventory.size() && remaining > 0; i++) {
+      final ItemStack stack = this.inventory.get(i);
+      if (stack.getItem() == item) {
+        final int taken = Math.min(remaining, stack.getCount());
+        stack.shrink(taken);
+        remaining -= taken;
+      }
+    }
+  }
+
+  @Override
+  public void markDirty() {
+    super.markDirty();
+    this.checkInventory = true;
+  }
+
+  @Override
+  public int getSizeInventory() {
+    return INVENTORY_SIZE;
+  }
+
+  @Override
+  protected NonNullList<ItemStack> getItems() {
+    return this.inventory;
+  }
+
+  @Override
+  protected void setItems(final NonNullList<ItemStack> itemsIn) {
+    this.inventory = itemsIn;
+    this.checkInventory = true;
+  }
+
+  @Override
+  protected ITextComponent getDefaultName() {
+    return new TranslationTextComponent("container.golems.golem_assembler");
+  }
+
+  @Override
+  protected Container createMenu(final int id, final PlayerInventory player) {
+    return new DispenserContainer(id, player, this);
+  }
+
+  @Override
+  public void read(final BlockState state, final CompoundNBT nbt) {
+    super.read(state, nbt);
+    this.inventory = NonNullList.withSize(this.getSizeInventory(), ItemStack.EMPTY);
+    if (!this.checkLootAndRead(nbt)) {
+      ItemStackHelper.loadAllItems(nbt, this.inventory);
+    }
+    this.buildCooldown = nbt.getInt(KEY_COOLDOWN);
+    this.checkInventory = true;
+  }
+
+  @Override
+  public CompoundNBT write(final CompoundNBT compound) {
+    super.write(compound);
+    if (!this.checkLootAndWrite(compound)) {
+      ItemStackHelper.saveAllItems(compound, this.inventory);
+    }
+    compound.putInt(KEY_COOLDOWN, this.buildCooldown);
+    return compound;
+  }
+}
@@ -0,0 +1,223 @@
+package com.mcmoddev.golems.util;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import com.mcmoddev.golems.util.config.ExtraGolemsConfig;
+
+import it.unimi.dsi.fastutil.Arrays;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+
+/**
+ * Every block that a golem changes goes through this queue, one per world.
+ * The edits are applied at the end of the world tick, oldest first, up to the
+ * "block_edits_per_tick" config value. Edits past the limit wait for the next
+ * tick. A second edit to a position that is still waiting replaces the first
+ * one but keeps its place in line.
+ * <p>
+ * Each tick's edits are written one chunk section at a time, and neighbors are
+ * only notified once every block in the section has been written, so that
+ * things like flowing water react to the finished change instead of each step.
+ * Vanilla already sends the changes in a section to clients together.
+ **/
+public final class GolemBlockEditQueue {
+
+  private static final Map<World, GolemBlockEditQueue> QUEUES = new WeakHashMap<>();
+  /** Returned for client worlds. It never queues anything, so it is never changed. **/
+  private static final GolemBlockEditQueue REMOTE = new GolemBlockEditQueue(true);
+
+  /** True if this queue ignores every edit **/
+  private final boolean remote;
+
+  /** Waiting edits, by packed position, oldest first **/
+  private final Long2ObjectLinkedOpenHashMap<Edit> edits = new Long2ObjectLinkedOpenHashMap<>();
+
+  // reused by each flush
+  private long[] batchPositions = new long[64];
+  private long[] batchSections = new long[64];
+  private Edit[] batch = new Edit[64];
+  private final LongArrayList notifyPositions = new LongArrayList();
+  /** The block that was replaced at each position in {@link #notifyPositions} **/
+  private final ObjectArrayList<Block> notifyOldBlocks = new ObjectArrayList<>();
+  private final ObjectArrayList<BlockState> notifyStates = new ObjectArrayList<>();
+  private final BlockPos.Mutable pos = new BlockPos.Mutable();
+
+  private GolemBlockEditQueue(final boolean lRemote) {
+    this.remote = lRemote;
+  }
+
+  /**
+   * @param world the world
+   * @return the queue for the world. Only use this on the server thread. Client
+   *         worlds get a queue that ignores every edit, since their queues are
+   *         never applied.
+   **/
+  public static GolemBlockEditQueue get(final World world) {
+    if (world.isRemote) {
+      return REMOTE;
+    }
+    return QUEUES.computeIfAbsent(world, w -> new GolemBlockEditQueue(false));
+  }
+
+  /**
+   * Applies waiting edits for the world. Called once at the end of each world
+   * tick.
+   *
+   * @param world the world
+   **/
+  public static void tick(final World world) {
+    final GolemBlockEditQueue queue = QUEUES.get(world);
+    if (queue != null && !queue.edits.isEmpty()) {
+      queue.flush(world, ExtraGolemsConfig.blockEditsPerTick());
+    }
+  }
+
+  /**
+   * Queues a change to a block. The function is given the block's state when
+   * the edit is applied, so it can check that the block is still the one it
+   * expects.
+   *
+   * @param position the position to change
+   * @param edit     returns the state to place, or the same state (or null) to
+   *                 leave the block alone
+   * @param flags    the flags to pass to {@link World#setBlockState}
+   * @return true if this is the only edit waiting for the position. False if
+   *         it replaced an edit that had not been applied yet, or if the
+   *         position is outside the world or the world is a client world,
+   *         and nothing was queued.
+   **/
+  public boolean add(final BlockPos position, final Function<BlockState, BlockState> edit, final int flags) {
+    if (remote || World.isOutsideBuildHeight(position)) {
+      return false;
+    }
+    final long key = position.toLong();
+    final Edit old = edits.get(key);
+    if (old != null) {
+      // keep the old edit's place in line
+      old.function = edit;
+      old.flags = flags;
+      return false;
+    }
+    edits.put(key, new Edit(edit, flags));
+    return true;
+  }
+
+  /** @return the number of edits that are waiting **/
+  public int size() {
+    return edits.size();
+  }
+
+  /**
+   * @param world the world
+   * @param max   the largest number of edits to apply
+   **/
+  private void flush(final World world, final int max) {
+    final int count = Math.min(Math.max(1, max), edits.size());
+    if (batch.length < count) {
+      final int length = Math.max(count, batch.length * 2);
+      batchPositions = new long[length];
+      batchSections = new long[length];
+      batch = new Edit[length];
+    }
+    // take the oldest edits
+    for (int i = 0; i < count; i++) {
+      final long key = edits.firstLongKey();
+      batchPositions[i] = key;
+      batchSections[i] = SectionPos.worldToSection(key);
+      batch[i] = edits.removeFirst();
+    }
+    // group them by section, keeping the order within each section
+    Arrays.mergeSort(0, count, (a, b) -> Long.compare(batchSections[a], batchSections[b]), (a, b) -> {
+      final long p = batchPositions[a];
+      batchPositions[a] = batchPositions[b];
+      batchPositions[b] = p;
+      final long s = batchSections[a];
+      batchSections[a] = batchSections[b];
+      batchSections[b] = s;
+      final Edit e = batch[a];
+      batch[a] = batch[b];
+      batch[b] = e;
+    });
+    try {
+      for (int i = 0; i < count; i++) {
+        if (i > 0 && batchSections[i] != batchSections[i - 1]) {
+          notifyNeighbors(world);
+        }
+        apply(world, batchPositions[i], batch[i]);
+        batch[i] = null;
+      }
+      notifyNeighbors(world);
+    } finally {
+      notifyPositions.clear();
+      notifyOldBlocks.clear();
+      notifyStates.clear();
+    }
+  }
+
+  /**
+   * Writes a single block, leaving neighbor updates for later.
+   *
+   * @param world  the world
+   * @param packed the packed position
+   * @param edit   the edit
+   **/
+  private void apply(final World world, final long packed, final Edit edit) {
+    pos.setPos(packed);
+    if (!world.isBlockLoaded(pos)) {
+      return;
+    }
+    final BlockState current = world.getBlockState(pos);
+    final BlockState next = edit.function.apply(current);
+    if (next == null || next == current) {
+      return;
+    }
+    if (world.setBlockState(pos, next, edit.flags & ~1) && (edit.flags & 1) != 0) {
+      notifyPositions.add(packed);
+      notifyOldBlocks.add(current.getBlock());
+      notifyStates.add(next);
+    }
+  }
+
+  /**
+   * Does what {@link World#setBlockState} does for flag 1, for every block
+   * written since this was last called. Like vanilla, neighbors are told which
+   * block was replaced, and comparators are told about the new block.
+   *
+   * @param world the world
+   **/
+  private void notifyNeighbors(final World world) {
+    for (int i = 0, l = notifyPositions.size(); i < l; i++) {
+      pos.setPos(notifyPositions.getLong(i));
+      final BlockState state = notifyStates.get(i);
+      world.notifyNeighborsOfStateChange(pos, notifyOldBlocks.get(i));
+      if (state.hasComparatorInputOverride()) {
+        world.updateComparatorOutputLevel(pos, state.getBlock());
+      }
+    }
+    notifyPositions.clear();
+    notifyOldBlocks.clear();
+    notifyStates.clear();
+  }
+
+  /**
+   * A single waiting edit.
+   **/
+  private static final class Edit {
+    private Function<BlockState, BlockState> function;
+    private int flags;
+
+    private Edit(final Function<BlockState, BlockState> lFunction, final int lFlags) {
+      this.function = lFunction;
+      this.flags = lFlags;
+    }
+  }
+}
@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -17,6 +17,7 @@ import javax.annotation.Nullable;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.entity.base.GolemMultiTextured;
 import com.mcmoddev.golems.events.GolemContainerBuildEvent;
@@ -26,6 +27,9 @@ import com.mcmoddev.golems.util.GolemRenderSettings.ILightingProvider;
 import com.mcmoddev.golems.util.GolemRenderSettings.ITextureProvider;
 import com.mcmoddev.golems.util.config.ExtraGolemsConfig;
 import com.mcmoddev.golems.util.config.special.GolemSpecialContainer;
+import com.mcmoddev.golems.util.config.special.GolemSpecialSnapshot;
+
+import it.unimi.dsi.fastutil.objects.Reference2DoubleOpenHashMap;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
@@ -38,6 +42,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.Items;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.ITag;
+import net.minecraft.tags.ITagCollection;
 import net.minecraft.tags.Tag;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
@@ -71,6 +76,7 @@ public final class GolemContainer {
   private final SwimMode swimMode;
   private final boolean canInteractChangeTexture;
   private final boolean noGolemBookEntry;
+  private final GolemPattern pattern;
 
   private double health;
   private double attack;
@@ -81,10 +87,26 @@ public final class GolemContainer {
   private final int powerLevel;
   private boolean enabled = true;
 
+  /** Dense numerical ID assigned when the registry is frozen **/
+  private int id = -1;
+  private volatile boolean frozen = false;
+  /** Data pack settings, replaced by the {@link GolemRegistrar} when data packs are loaded **/
+  @Nullable
+  private volatile GolemData data = null;
+
   private final ImmutableMap<String, GolemSpecialContainer> specialContainers;
   private final ImmutableList<GolemDescription> descContainers;
   private final ImmutableMap<IRegistryDelegate<Item>, Double> healItemMap;
 
+  /** Typed copy of the special config values, replaced each time the config loads **/
+  private volatile GolemSpecialSnapshot specialSnapshot;
+
+  /** Description components, rebuilt when the config, language, or golem data changes **/
+  private volatile DescriptionCache descriptionCache = null;
+
+  /** Building blocks resolved against the current Block Tags, only used before the registry is frozen **/
+  private volatile ResolvedBlocks resolvedBlocks = null;
+
   /**
    * Constructor for GolemContainer (use the Builder!)
    *
@@ -106,6 +128,8 @@ public final class GolemContainer {
    * @param lDesc                   any special descriptions for the golem
    * @param lHealItemMap            a map of items and their corresponding heal amounts
    * @param lBasicSound             a default SoundEvent to use for the golem
+   * @param lNoGolemBookEntry       whether the golem is hidden from the golem book
+   * @param lPattern                the shape that is built in the world to make the golem
    **/
   private GolemContainer(final EntityType<? extends GolemBase> lEntityType, final Class<? extends GolemBase> lEntityClass,
       final String lPath, final GolemRenderSettings lRenderSettings, final Set<IRegistryDelegate<Block>> lValidBuildingBlocks,
@@ -113,7 +137,7 @@ public final class GolemContainer {
       final double lKnockbackResist, final int lLightLevel, final int lPowerLevel, final boolean lFallDamage, 
       final boolean lExplosionImmunity, final SwimMode lSwimMode, final HashMap<String, GolemSpecialContainer> lSpecialContainers, 
       final List<GolemDescription> lDesc, final Map<IRegistryDelegate<Item>, Double> lHealItemMap,
-      final SoundEvent lBasicSound, final boolean lNoGolemBookEntry) {
+      final SoundEvent lBasicSound, final boolean lNoGolemBookEntry, final GolemPattern lPattern) {
     this.entityType = lEntityType;
     this.entityClass = lEntityClass;
     this.renderSettings = lRenderSettings;
@@ -130,10 +154,12 @@ public final class GolemContainer {
     this.explosionImmunity = lExplosionImmunity;
     this.swimMode = lSwimMode;
     this.specialContainers = ImmutableMap.copyOf(lSpecialContainers);
+    this.specialSnapshot = GolemSpecialSnapshot.compile(this.specialContainers.values(), c -> c.value, 0);
     this.descContainers = ImmutableList.copyOf(lDesc);
     this.healItemMap = ImmutableMap.copyOf(lHealItemMap);
     this.basicSound = lBasicSound;
     this.noGolemBookEntry = lNoGolemBookEntry;
+    this.pattern = lPattern;
     
     this.canInteractChangeTexture = (GolemMultiTextured.class.isAssignableFrom(lEntityClass));
   }
@@ -144,8 +170,36 @@ public final class GolemContainer {
    * {@link GolemDescription#addDescription(List, GolemContainer)}.
    *
    * @param list a List that may or may not contain other descriptions already.
+   * @see #getDescriptions()
    **/
   public void addDescription(final List<IFormattableTextComponent> list) {
+    list.addAll(getDescriptions());
+  }
+
+  /**
+   * The description components are only built again after the config is
+   * loaded, the language is changed, or golem data is reloaded. The same
+   * component instances are shared by every caller, so do not modify them.
+   *
+   * @return this golem's description(s), which do not depend on any
+   *         particular golem entity
+   * @see GolemDescription#invalidateAll()
+   **/
+  public ImmutableList<IFormattableTextComponent> getDescriptions() {
+    // read the versions before building so that a change part-way through is not missed
+    final int configVersion = GolemSpecialSnapshot.getCurrentVersion();
+    final int descVersion = GolemDescription.getVersion();
+    DescriptionCache cache = descriptionCache;
+    if (cache == null || cache.configVersion != configVersion || cache.descVersion != descVersion) {
+      cache = new DescriptionCache(buildDescriptions(), configVersion, descVersion);
+      descriptionCache = cache;
+    }
+    return cache.descriptions;
+  }
+
+  /** @return a new list of this golem's description(s) **/
+  private ImmutableList<IFormattableTextComponent> buildDescriptions() {
+    final List<IFormattableTextComponent> list = new ArrayList<>();
     // ADD FIREPROOF TIP
     if (this.entityType.isImmuneToFire()) {
       list.add(new TranslationTextComponent("enchantment.minecraft.fire_protection").mergeStyle(TextFormatting.GOLD));
@@ -159,13 +213,14 @@ public final class GolemContainer {
       list.add(new TranslationTextComponent("entitytip.click_change_texture").mergeStyle(TextFormatting.BLUE));
     }
     // ADD SWIMMING TIP
-    if(this.swimMode == SwimMode.SWIM) {
+    if(getSwimMode() == SwimMode.SWIM) {
       list.add(new TranslationTextComponent("entitytip.advanced_swim").mergeStyle(TextFormatting.AQUA));
     }
     // ADD ALL OTHER DESCRIPTIONS
     for (final GolemDescription desc : descContainers) {
       desc.addDescription(list, this);
     }
+    return ImmutableList.copyOf(list);
   }
 
   /**
@@ -173,22 +228,65 @@ public final class GolemContainer {
    *         used to build this golem
    **/
   public boolean hasBuildingBlock() {
+    final GolemData d = this.data;
+    if (d != null && (d.hasBlocks() || d.replacesBlocks())) {
+      return d.hasBlocks();
+    }
     return !this.validBuildingBlocks.isEmpty() || !this.validBuildingBlockTags.isEmpty();
   }
 
   /**
-   * @return a Set of all possible Blocks that can be used to build the golem.
-   *         Does not contain duplicates but may be empty.
+   * @return an immutable Set of all possible Blocks that can be used to build
+   *         the golem. Does not contain duplicates but may be empty.
    * @see #hasBuildingBlock()
    **/
   public Set<Block> getBuildingBlocks() {
-    // make set of all blocks including tags (run-time only)
-    Set<Block> blocks = validBuildingBlocks.isEmpty() ? new HashSet<>() : validBuildingBlocks.stream().map(d -> d.get()).collect(Collectors.toSet());
-    for (final ITag<Block> tag : loadTags(validBuildingBlockTags)) {
-      blocks.addAll(tag.getAllElements());
+    return getResolvedBlocks().blocks;
+  }
+
+  /**
+   * Resolves the building blocks (including tags) if they have not been resolved
+   * yet, or if the Block Tags have been reloaded since they were last resolved.
+   * Once the registry is frozen, every golem is resolved together by the
+   * {@link GolemRegistrar} so that data pack reloads replace all of them at once.
+   *
+   * @return the current ResolvedBlocks for this golem
+   **/
+  ResolvedBlocks getResolvedBlocks() {
+    if (frozen) {
+      return GolemRegistrar.getResolvedBlocks(this.id);
+    }
+    final ITagCollection<Block> tags = BlockTags.getCollection();
+    ResolvedBlocks resolved = this.resolvedBlocks;
+    if (resolved == null || resolved.tags != tags) {
+      resolved = resolve(tags, null);
+      this.resolvedBlocks = resolved;
     }
-    blocks.remove(Blocks.AIR);
-    return blocks;
+    return resolved;
+  }
+
+  /**
+   * @param tags the Block Tag collection to use
+   * @param data the data pack settings for this golem, if any
+   * @return the building blocks and heal items of this golem
+   **/
+  ResolvedBlocks resolve(final ITagCollection<Block> tags, @Nullable final GolemData data) {
+    return new ResolvedBlocks(tags, data, validBuildingBlocks, validBuildingBlockTags, healItemMap);
+  }
+
+  /** @return the data pack settings for this golem, or null if there are none **/
+  @Nullable
+  public GolemData getData() {
+    return this.data;
+  }
+
+  /**
+   * @param dataIn the data pack settings for this golem, or null to go back to
+   *               its own settings
+   * @see GolemRegistrar#loadData(Map)
+   **/
+  void setData(@Nullable final GolemData dataIn) {
+    this.data = dataIn;
   }
 
   /**
@@ -206,18 +304,22 @@ public final class GolemContainer {
     return specialContainers.get(key);
   }
 
+  /**
+   * @return a typed copy of the current special config values. Before the config
+   *         is loaded, this contains the default values.
+   * @see GolemSpecialSnapshot#getCurrentVersion()
+   **/
+  public GolemSpecialSnapshot getSpecials() {
+    return specialSnapshot;
+  }
+
   /**
    * @param item an item that could potentially heal the golem
    * @return a percentage of health to restore. May be zero.
    **/
   public double getHealAmount(final Item item) {
-    // check the map for the value
-    final Map<IRegistryDelegate<Item>, Double> map = loadTagsForHealMap(getBuildingBlocks(), healItemMap);
-    if(item != null && item != Items.AIR && map.containsKey(item.delegate)) {
-      return map.get(item.delegate);
-    }
-    // default value is zero
-    return 0;
+    // check the table for the value (default value is zero)
+    return item != null ? getResolvedBlocks().healAmounts.getDouble(item) : 0;
   }
 
   /**
@@ -231,7 +333,7 @@ public final class GolemContainer {
    * @see #getBuildingBlocks()
    **/
   public boolean areBuildingBlocks(final Block body, final Block legs, final Block arm1, final Block arm2) {
-    final Set<Block> blocks = getBuildingBlocks();
+    final Set<Block> blocks = getResolvedBlocks().blocks;
     return blocks.contains(body) && blocks.contains(legs) && blocks.contains(arm1) && blocks.contains(arm2);
   }
 
@@ -246,9 +348,9 @@ public final class GolemContainer {
   @Nullable
   public Block getPrimaryBuildingBlock() {
     if (hasBuildingBlock()) {
-      final Block[] blocks = this.getBuildingBlocks().toArray(new Block[0]);
-      if (blocks != null && blocks.length > 0) {
-        return blocks[0];
+      final Set<Block> blocks = getResolvedBlocks().blocks;
+      if (!blocks.isEmpty()) {
+        return blocks.iterator().next();
       }
     }
     return null;
@@ -264,8 +366,16 @@ public final class GolemContainer {
    * @return if the blocks were added successfully
    **/
   public boolean addBlocks(@Nonnull final Block... additional) {
-    return additional.length > 0
-        && this.validBuildingBlocks.addAll(Arrays.asList(additional).stream().map(d -> d.delegate).collect(Collectors.toList()));
+    if (isFrozen(additional.length > 0 ? additional[0].getRegistryName() : null)) {
+      return false;
+    }
+    if (additional.length > 0
+        && this.validBuildingBlocks.addAll(Arrays.asList(additional).stream().map(d -> d.delegate).collect(Collectors.toList()))) {
+      this.resolvedBlocks = null;
+      GolemRegistrar.invalidateBlockIndex();
+      return true;
+    }
+    return false;
   }
 
   /**
@@ -278,39 +388,86 @@ public final class GolemContainer {
    * @return if the Block Tag was added successfully
    **/
   public boolean addBlocks(@Nonnull final ITag.INamedTag<Block> additional) {
-    return this.validBuildingBlockTags.add(additional.getName());
+    if (isFrozen(additional.getName())) {
+      return false;
+    }
+    if (this.validBuildingBlockTags.add(additional.getName())) {
+      this.resolvedBlocks = null;
+      GolemRegistrar.invalidateBlockIndex();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Logs an error if the registry is frozen and the building blocks can no longer
+   * be changed.
+   *
+   * @param added the ID of the block or tag that was going to be added
+   * @return true if this golem is frozen
+   **/
+  private boolean isFrozen(@Nullable final ResourceLocation added) {
+    if (frozen) {
+      ExtraGolems.LOGGER.error("Tried to add building block '%s' to golem '%s' after the golem registry was frozen!", added, getRegistryName());
+    }
+    return frozen;
+  }
+
+  /**
+   * Called once by the {@link GolemRegistrar} when the registry is frozen.
+   *
+   * @param lId the dense numerical ID of this golem
+   **/
+  void freeze(final int lId) {
+    this.id = lId;
+    this.frozen = true;
+    this.resolvedBlocks = null;
   }
 
   /**
-   * Required for correctly loading tags - they must be called as needed and can
-   * not be stored or queried before they are properly loaded and reloaded.
+   * Required for correctly loading tags - they can not be queried before they
+   * are properly loaded, and must be queried again each time they are reloaded.
    *
+   * @param collection the current Block Tag collection
    * @param rls a Collection of ResourceLocation IDs that represent Block Tags.
    * @return a current Collection of Block Tags
    **/
-  private static Collection<ITag<Block>> loadTags(final Collection<ResourceLocation> rls) {
-    final Collection<ITag<Block>> tags = new HashSet<>();
+  private static Collection<ITag<Block>> loadTags(final ITagCollection<Block> collection, final Collection<ResourceLocation> rls) {
+    final Collection<ITag<Block>> tags = new ArrayList<>(rls.size());
     for (final ResourceLocation rl : rls) {
-      if (BlockTags.getCollection().get(rl) != null) {
-        ITag<Block> tag = BlockTags.getCollection().get(rl);
-        if(tag != null) {
-          tags.add(tag);
-        }
+      final ITag<Block> tag = collection.get(rl);
+      if(tag != null) {
+        tags.add(tag);
       }
     }
     return tags;
   }
-  
-  private static Map<IRegistryDelegate<Item>, Double> loadTagsForHealMap(final Set<Block> set, final Map<IRegistryDelegate<Item>, Double> healItems) {
-    final Map<IRegistryDelegate<Item>, Double> map = new HashMap<>(healItems);
+
+  /**
+   * Builds a lookup table of the heal amount for each item, including the items
+   * of every building block.
+   *
+   * @param set the resolved building blocks
+   * @param healItems the heal items that were given to the builder
+   * @return a table of items and their heal amounts, where any other item is zero
+   **/
+  private static Reference2DoubleOpenHashMap<Item> loadTagsForHealMap(final Set<Block> set, final Map<IRegistryDelegate<Item>, Double> healItems) {
+    final Reference2DoubleOpenHashMap<Item> map = new Reference2DoubleOpenHashMap<>(healItems.size() + set.size());
+    map.defaultReturnValue(0);
+    healItems.forEach((item, amount) -> {
+      if(item.get() != Items.AIR) {
+        map.put(item.get(), amount.doubleValue());
+      }
+    });
     // add each block in the set to the given map
     for(final Block b : set) {
       Item ib = b.asItem();
-      if(ib != Items.AIR && !map.containsKey(ib.delegate)) {
+      if(ib != Items.AIR && !map.containsKey(ib)) {
         // building blocks restore 75% of golem health
-        map.put(ib.delegate, 0.75D);
+        map.put(ib, 0.75D);
       }
     }
+    map.trim();
     return map;
   }
 
@@ -334,6 +491,15 @@ public final class GolemContainer {
     this.attack = pAttack;
   }
 
+  /**
+   * <strong>DO NOT CALL</strong> unless you are the config!
+   * 
+   * @param pSpecials new special config values
+   **/
+  public void setSpecials(final GolemSpecialSnapshot pSpecials) {
+    this.specialSnapshot = pSpecials;
+  }
+
   /**
    * <strong>DO NOT CALL</strong> unless you are the config!
    * 
@@ -354,6 +520,9 @@ public final class GolemContainer {
   /** @return a unique ResourceLocation ID for the Golem. Always unique. **/
   public ResourceLocation getRegistryName() { return this.entityType.getRegistryName(); }
   
+  /** @return the dense numerical ID of this golem, or -1 if the registry is not frozen yet **/
+  public int getId() { return this.id; }
+  
   /** @return the render settings for this golem **/
   public GolemRenderSettings getRenderSettings() { return this.renderSettings; }
  
@@ -363,11 +532,17 @@ public final class GolemContainer {
   /** @return the name of the Golem as specified in the Builder **/
   public String getName() { return this.name; }
 
-  /** @return the Golem's default health. Mutable. **/
-  public double getHealth() { return this.health; }
+  /** @return the Golem's default health. A data pack value takes precedence over the config. **/
+  public double getHealth() {
+    final GolemData d = this.data;
+    return d != null && d.getHealth() != null ? d.getHealth().doubleValue() : this.health;
+  }
 
-  /** @return the Golem's default attack power. Mutable. **/
-  public double getAttack() { return this.attack; }
+  /** @return the Golem's default attack power. A data pack value takes precedence over the config. **/
+  public double getAttack() {
+    final GolemData d = this.data;
+    return d != null && d.getAttack() != null ? d.getAttack().doubleValue() : this.attack;
+  }
 
   /** @return the Golem's default move speed. Immutable. **/
   public double getSpeed() { return this.speed; }
@@ -375,11 +550,17 @@ public final class GolemContainer {
   /** @return the Golem's default knockback resistance. Immutable. **/
   public double getKnockbackResist() { return this.knockbackResist; }
   
-  /** @return the Golem's light level. Immutable. **/
-  public int getLightLevel() { return this.lightLevel; }
+  /** @return the Golem's light level. May be changed by a data pack. **/
+  public int getLightLevel() {
+    final GolemData d = this.data;
+    return d != null && d.getLightLevel() != null ? d.getLightLevel().intValue() : this.lightLevel;
+  }
   
-  /** @return the Golem's redstone power level. Immutable. **/
-  public int getPowerLevel() { return this.powerLevel; }
+  /** @return the Golem's redstone power level. May be changed by a data pack. **/
+  public int getPowerLevel() {
+    final GolemData d = this.data;
+    return d != null && d.getPowerLevel() != null ? d.getPowerLevel().intValue() : this.powerLevel;
+  }
 
   /** @return true if the Golem is enabled by the config settings. Mutable. **/
   public boolean isEnabled() { return this.enabled; }
@@ -391,21 +572,27 @@ public final class GolemContainer {
   public boolean isImmuneToExplosions() { return this.explosionImmunity; }
 
   /** @return true if the Golem can swim on top of water **/
-  public boolean canSwim() { return this.swimMode == SwimMode.FLOAT; }
+  public boolean canSwim() { return getSwimMode() == SwimMode.FLOAT; }
 
-  /** @return the {@link SwimMode} of the Golem **/
-  public SwimMode getSwimMode() { return this.swimMode; }
+  /** @return the {@link SwimMode} of the Golem. May be changed by a data pack. **/
+  public SwimMode getSwimMode() {
+    final GolemData d = this.data;
+    return d != null && d.getSwimMode() != null ? d.getSwimMode() : this.swimMode;
+  }
   
   /** @return true if the Golem should not appear in the golem guide book **/
   public boolean noGolemBookEntry() { return this.noGolemBookEntry; }
+
+  /** @return the shape that is built in the world to make this golem **/
+  public GolemPattern getPattern() { return this.pattern; }
   
   /** @return a new attribute map supplier for the Golem **/
   public Supplier<AttributeModifierMap.MutableAttribute> getAttributeSupplier() {
     return () -> MobEntity.func_233666_p_()
-         .createMutableAttribute(Attributes.MAX_HEALTH, this.health)
+         .createMutableAttribute(Attributes.MAX_HEALTH, getHealth())
          .createMutableAttribute(Attributes.MOVEMENT_SPEED, this.speed)
          .createMutableAttribute(Attributes.KNOCKBACK_RESISTANCE, this.knockbackResist)
-         .createMutableAttribute(Attributes.ATTACK_DAMAGE, this.attack);
+         .createMutableAttribute(Attributes.ATTACK_DAMAGE, getAttack());
    }
 
   //////////////////////////////////////////////////////////////
@@ -438,8 +625,9 @@ public final class GolemContainer {
     private boolean explosionImmunity = false;
     private boolean noGolemBookEntry = false;
     private SwimMode swimMode = SwimMode.SINK;
-    private Set<IRegistryDelegate<Block>> validBuildingBlocks = new HashSet<>();
-    private Set<ResourceLocation> validBuildingBlockTags = new HashSet<>();
+    private GolemPattern pattern = GolemPattern.DEFAULT;
+    private Set<IRegistryDelegate<Block>> validBuildingBlocks = new LinkedHashSet<>();
+    private Set<ResourceLocation> validBuildingBlockTags = new LinkedHashSet<>();
     private List<GolemSpecialContainer> specials = new ArrayList<>();
     private List<GolemDescription> descriptions = new ArrayList<>();
     private final Map<IRegistryDelegate<Item>, Double> healItemMap = new HashMap<>();
@@ -793,7 +981,7 @@ public final class GolemContainer {
      **/
     public Builder addBlocks(final Block... additionalBlocks) {
       if (additionalBlocks != null && additionalBlocks.length > 0) {
-        this.validBuildingBlocks.addAll(Arrays.asList(additionalBlocks).stream().map(b -> b.delegate).collect(Collectors.toSet()));
+        this.validBuildingBlocks.addAll(Arrays.asList(additionalBlocks).stream().map(b -> b.delegate).collect(Collectors.toList()));
       }
       return this;
     }
@@ -941,6 +1129,18 @@ public final class GolemContainer {
       return this;
     }
 
+    /**
+     * Sets the shape that must be built in the world to make this golem.
+     * <strong>Defaults to {@link GolemPattern#DEFAULT}</strong>
+     *
+     * @param lPattern the GolemPattern to use
+     * @return instance to allow chaining of methods
+     **/
+    public Builder setPattern(final GolemPattern lPattern) {
+      this.pattern = lPattern;
+      return this;
+    }
+
     /**
      * Builds the container according to values that have been set inside this
      * Builder
@@ -966,10 +1166,67 @@ public final class GolemContainer {
       // build the golem container
       return new GolemContainer(entityType, entityClass, golemName, renderSettings, validBuildingBlocks, validBuildingBlockTags, health, attack, speed,
           knockBackResist, lightLevel, powerLevel, fallDamage, explosionImmunity, swimMode, containerMap, descriptions, healItemMap, 
-          basicSound, noGolemBookEntry);
+          basicSound, noGolemBookEntry, pattern);
+    }
+  }
+
+  /**
+   * Description components along with the versions they were built for.
+   **/
+  private static final class DescriptionCache {
+    private final ImmutableList<IFormattableTextComponent> descriptions;
+    private final int configVersion;
+    private final int descVersion;
+
+    private DescriptionCache(final ImmutableList<IFormattableTextComponent> lDescriptions, final int lConfigVersion, final int lDescVersion) {
+      this.descriptions = lDescriptions;
+      this.configVersion = lConfigVersion;
+      this.descVersion = lDescVersion;
     }
   }
 
+  /**
+   * Immutable set of building blocks and heal items that have been resolved
+   * against a specific Block Tag collection and data pack. When the tags or
+   * data packs are reloaded, the building blocks must be resolved again.
+   **/
+  static final class ResolvedBlocks {
+    private final ITagCollection<Block> tags;
+    private final ImmutableSet<Block> blocks;
+    /** Never modified after construction **/
+    private final Reference2DoubleOpenHashMap<Item> healAmounts;
+
+    private ResolvedBlocks(final ITagCollection<Block> tagsIn, @Nullable final GolemData dataIn,
+        final Collection<IRegistryDelegate<Block>> delegates, final Collection<ResourceLocation> tagNames,
+        final Map<IRegistryDelegate<Item>, Double> healItems) {
+      final Set<Block> set = new LinkedHashSet<>();
+      if (dataIn == null || !dataIn.replacesBlocks()) {
+        for (final IRegistryDelegate<Block> d : delegates) {
+          set.add(d.get());
+        }
+        for (final ITag<Block> tag : loadTags(tagsIn, tagNames)) {
+          set.addAll(tag.getAllElements());
+        }
+      }
+      if (dataIn != null) {
+        set.addAll(dataIn.getBlocks());
+        for (final ITag<Block> tag : loadTags(tagsIn, dataIn.getBlockTags())) {
+          set.addAll(tag.getAllElements());
+        }
+      }
+      set.remove(Blocks.AIR);
+      this.tags = tagsIn;
+      this.blocks = ImmutableSet.copyOf(set);
+      this.healAmounts = loadTagsForHealMap(this.blocks, dataIn != null && dataIn.replacesHealItems() ? ImmutableMap.of() : healItems);
+      if (dataIn != null) {
+        dataIn.getHealItems().forEach((item, amount) -> this.healAmounts.put(item, amount.doubleValue()));
+      }
+    }
+
+    /** @return every Block that can be used to build the golem **/
+    ImmutableSet<Block> getBlocks() { return blocks; }
+  }
+
   /**
    * There are three distinct behaviors when a golem is in contact with water:
    * <br>
@@ -0,0 +1,264 @@
+package com.mcmoddev.golems.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import com.mcmoddev.golems.main.ExtraGolems;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.registries.ForgeRegistries;
+
+/**
+ * Immutable golem settings that were loaded from a data pack. Each file at
+ * {@code data/[namespace]/golems/[golem].json} changes the golem with the ID
+ * {@code [namespace]:[golem]}. Every field is optional, and a missing field
+ * keeps the value from the golem's builder (or the config, for health and
+ * attack). A health or attack value in a data pack takes precedence over the
+ * config. The data is sent to each client when it joins and after each
+ * reload. For example:
+ * <pre>
+ * {
+ *   "health": 80.0,
+ *   "attack": 6.5,
+ *   "swim_mode": "float",
+ *   "light_level": 0,
+ *   "power_level": 0,
+ *   "building_blocks": {
+ *     "replace": false,
+ *     "blocks": [ "minecraft:stone" ],
+ *     "tags": [ "minecraft:logs" ]
+ *   },
+ *   "heal_items": {
+ *     "replace": false,
+ *     "items": { "minecraft:apple": 0.25 }
+ *   }
+ * }
+ * </pre>
+ * Light and power levels are still subject to the golem's config toggle, which
+ * only exists for golems that emit light or power by default.
+ *
+ * @see GolemDataManager
+ **/
+public final class GolemData {
+
+  @Nullable
+  private final Double health;
+  @Nullable
+  private final Double attack;
+  @Nullable
+  private final GolemContainer.SwimMode swimMode;
+  @Nullable
+  private final Integer lightLevel;
+  @Nullable
+  private final Integer powerLevel;
+  private final boolean replaceBlocks;
+  private final ImmutableSet<Block> blocks;
+  private final ImmutableSet<ResourceLocation> blockTags;
+  private final boolean replaceHealItems;
+  private final ImmutableMap<Item, Double> healItems;
+
+  private GolemData(@Nullable final Double lHealth, @Nullable final Double lAttack, @Nullable final GolemContainer.SwimMode lSwimMode,
+      @Nullable final Integer lLightLevel, @Nullable final Integer lPowerLevel, final boolean lReplaceBlocks,
+      final ImmutableSet<Block> lBlocks, final ImmutableSet<ResourceLocation> lBlockTags, final boolean lReplaceHealItems,
+      final ImmutableMap<Item, Double> lHealItems) {
+    this.health = lHealth;
+    this.attack = lAttack;
+    this.swimMode = lSwimMode;
+    this.lightLevel = lLightLevel;
+    this.powerLevel = lPowerLevel;
+    this.replaceBlocks = lReplaceBlocks;
+    this.blocks = lBlocks;
+    this.blockTags = lBlockTags;
+    this.replaceHealItems = lReplaceHealItems;
+    this.healItems = lHealItems;
+  }
+
+  /**
+   * Reads golem settings from a data pack file. Unknown blocks and items are
+   * skipped with a warning so that data packs can mention optional mods.
+   *
+   * @param id   the golem ID, used for logging
+   * @param json the contents of the file
+   * @return the parsed GolemData
+   * @throws JsonSyntaxException if a field has the wrong type or value
+   **/
+  public static GolemData fromJson(final ResourceLocation id, final JsonObject json) {
+    final Double health = json.has("health") ? Double.valueOf(MathHelper.clamp(JSONUtils.getFloat(json, "health"), 1.0F, 999.0F)) : null;
+    final Double attack = json.has("attack") ? Double.valueOf(MathHelper.clamp(JSONUtils.getFloat(json, "attack"), 0.0F, 999.0F)) : null;
+    GolemContainer.SwimMode swimMode = null;
+    if (json.has("swim_mode")) {
+      final String mode = JSONUtils.getString(json, "swim_mode");
+      try {
+        swimMode = GolemContainer.SwimMode.valueOf(mode.toUpperCase(Locale.ROOT));
+      } catch (final IllegalArgumentException e) {
+        throw new JsonSyntaxException("Unknown swim_mode '" + mode + "', expected sink, float, or swim");
+      }
+    }
+    final Integer lightLevel = json.has("light_level") ? Integer.valueOf(MathHelper.clamp(JSONUtils.getInt(json, "light_level"), 0, 15)) : null;
+    final Integer powerLevel = json.has("power_level") ? Integer.valueOf(MathHelper.clamp(JSONUtils.getInt(json, "power_level"), 0, 15)) : null;
+    // building blocks
+    boolean replaceBlocks = false;
+    final ImmutableSet.Builder<Block> blocks = ImmutableSet.builder();
+    final ImmutableSet.Builder<ResourceLocation> blockTags = ImmutableSet.builder();
+    if (json.has("building_blocks")) {
+      final JsonObject obj = JSONUtils.getJsonObject(json, "building_blocks");
+      replaceBlocks = JSONUtils.getBoolean(obj, "replace", false);
+      for (final JsonElement e : JSONUtils.getJsonArray(obj, "blocks", new JsonArray())) {
+        final ResourceLocation name = new ResourceLocation(JSONUtils.getString(e, "block"));
+        if (ForgeRegistries.BLOCKS.containsKey(name)) {
+          blocks.add(ForgeRegistries.BLOCKS.getValue(name));
+        } else {
+          ExtraGolems.LOGGER.warn("Skipping unknown block '%s' in golem data for '%s'", name, id);
+        }
+      }
+      for (final JsonElement e : JSONUtils.getJsonArray(obj, "tags", new JsonArray())) {
+        blockTags.add(new ResourceLocation(JSONUtils.getString(e, "tag")));
+      }
+    }
+    // heal items
+    boolean replaceHealItems = false;
+    final ImmutableMap.Builder<Item, Double> healItems = ImmutableMap.builder();
+    if (json.has("heal_items")) {
+      final JsonObject obj = JSONUtils.getJsonObject(json, "heal_items");
+      replaceHealItems = JSONUtils.getBoolean(obj, "replace", false);
+      for (final Map.Entry<String, JsonElement> e : JSONUtils.getJsonObject(obj, "items", new JsonObject()).entrySet()) {
+        final ResourceLocation name = new ResourceLocation(e.getKey());
+        final double amount = JSONUtils.getFloat(e.getValue(), e.getKey());
+        if (ForgeRegistries.ITEMS.containsKey(name)) {
+          healItems.put(ForgeRegistries.ITEMS.getValue(name), Double.valueOf(amount));
+        } else {
+          ExtraGolems.LOGGER.warn("Skipping unknown heal item '%s' in golem data for '%s'", name, id);
+        }
+      }
+    }
+    return new GolemData(health, attack, swimMode, lightLevel, powerLevel, replaceBlocks, blocks.build(), blockTags.build(),
+        replaceHealItems, healItems.build());
+  }
+
+  /**
+   * Writes this data to a packet so that it can be sent to clients.
+   *
+   * @param buf the packet buffer
+   * @see #read(PacketBuffer)
+   **/
+  public void write(final PacketBuffer buf) {
+    buf.writeByte((health != null ? 1 : 0) | (attack != null ? 2 : 0) | (swimMode != null ? 4 : 0)
+        | (lightLevel != null ? 8 : 0) | (powerLevel != null ? 16 : 0) | (replaceBlocks ? 32 : 0) | (replaceHealItems ? 64 : 0));
+    if (health != null) {
+      buf.writeDouble(health.doubleValue());
+    }
+    if (attack != null) {
+      buf.writeDouble(attack.doubleValue());
+    }
+    if (swimMode != null) {
+      buf.writeEnumValue(swimMode);
+    }
+    if (lightLevel != null) {
+      buf.writeByte(lightLevel.intValue());
+    }
+    if (powerLevel != null) {
+      buf.writeByte(powerLevel.intValue());
+    }
+    buf.writeVarInt(blocks.size());
+    for (final Block block : blocks) {
+      buf.writeResourceLocation(block.getRegistryName());
+    }
+    buf.writeVarInt(blockTags.size());
+    for (final ResourceLocation tag : blockTags) {
+      buf.writeResourceLocation(tag);
+    }
+    buf.writeVarInt(healItems.size());
+    for (final Map.Entry<Item, Double> e : healItems.entrySet()) {
+      buf.writeResourceLocation(e.getKey().getRegistryName());
+      buf.writeDouble(e.getValue().doubleValue());
+    }
+  }
+
+  /**
+   * Reads data that was written by {@link #write(PacketBuffer)}. Blocks and
+   * items that are missing on this side are skipped.
+   *
+   * @param buf the packet buffer
+   * @return the GolemData
+   **/
+  public static GolemData read(final PacketBuffer buf) {
+    final int flags = buf.readByte();
+    final Double health = (flags & 1) != 0 ? Double.valueOf(buf.readDouble()) : null;
+    final Double attack = (flags & 2) != 0 ? Double.valueOf(buf.readDouble()) : null;
+    final GolemContainer.SwimMode swimMode = (flags & 4) != 0 ? buf.readEnumValue(GolemContainer.SwimMode.class) : null;
+    final Integer lightLevel = (flags & 8) != 0 ? Integer.valueOf(buf.readByte()) : null;
+    final Integer powerLevel = (flags & 16) != 0 ? Integer.valueOf(buf.readByte()) : null;
+    final ImmutableSet.Builder<Block> blocks = ImmutableSet.builder();
+    for (int i = buf.readVarInt(); i > 0; i--) {
+      final ResourceLocation name = buf.readResourceLocation();
+      if (ForgeRegistries.BLOCKS.containsKey(name)) {
+        blocks.add(ForgeRegistries.BLOCKS.getValue(name));
+      }
+    }
+    final ImmutableSet.Builder<ResourceLocation> blockTags = ImmutableSet.builder();
+    for (int i = buf.readVarInt(); i > 0; i--) {
+      blockTags.add(buf.readResourceLocation());
+    }
+    final ImmutableMap.Builder<Item, Double> healItems = ImmutableMap.builder();
+    for (int i = buf.readVarInt(); i > 0; i--) {
+      final ResourceLocation name = buf.readResourceLocation();
+      final double amount = buf.readDouble();
+      if (ForgeRegistries.ITEMS.containsKey(name)) {
+        healItems.put(ForgeRegistries.ITEMS.getValue(name), Double.valueOf(amount));
+      }
+    }
+    return new GolemData(health, attack, swimMode, lightLevel, powerLevel, (flags & 32) != 0, blocks.build(), blockTags.build(),
+        (flags & 64) != 0, healItems.build());
+  }
+
+  /** @return the max health, or null to keep the golem's own value **/
+  @Nullable
+  public Double getHealth() { return health; }
+
+  /** @return the attack damage, or null to keep the golem's own value **/
+  @Nullable
+  public Double getAttack() { return attack; }
+
+  /** @return the swim mode, or null to keep the golem's own value **/
+  @Nullable
+  public GolemContainer.SwimMode getSwimMode() { return swimMode; }
+
+  /** @return the light level, or null to keep the golem's own value **/
+  @Nullable
+  public Integer getLightLevel() { return lightLevel; }
+
+  /** @return the power level, or null to keep the golem's own value **/
+  @Nullable
+  public Integer getPowerLevel() { return powerLevel; }
+
+  /** @return true if the golem's own building blocks and tags are discarded **/
+  public boolean replacesBlocks() { return replaceBlocks; }
+
+  /** @return true if this data adds any building blocks or Block Tags **/
+  public boolean hasBlocks() { return !blocks.isEmpty() || !blockTags.isEmpty(); }
+
+  /** @return the building blocks added by this data **/
+  public ImmutableSet<Block> getBlocks() { return blocks; }
+
+  /** @return the IDs of the Block Tags added by this data **/
+  public ImmutableSet<ResourceLocation> getBlockTags() { return blockTags; }
+
+  /** @return true if the golem's own heal items are discarded **/
+  public boolean replacesHealItems() { return replaceHealItems; }
+
+  /** @return the heal items added by this data and their heal amounts **/
+  public ImmutableMap<Item, Double> getHealItems() { return healItems; }
+}
@@ -0,0 +1,99 @@
+package com.mcmoddev.golems.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.mcmoddev.golems.main.ExtraGolems;
+import com.mcmoddev.golems.network.GolemNetwork;
+import com.mcmoddev.golems.util.config.ExtraGolemsConfig;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
+
+import net.minecraft.client.resources.ReloadListener;
+import net.minecraft.entity.ai.attributes.GlobalEntityTypeAttributes;
+import net.minecraft.profiler.IProfiler;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+/**
+ * Loads {@link GolemData} from every data pack at
+ * {@code data/[namespace]/golems/[golem].json}. The files are read and parsed
+ * in parallel off of the server thread, then handed to the
+ * {@link GolemRegistrar} all at once. Runs again for each {@code /reload},
+ * which also updates the golems that are loaded and sends the new data to
+ * every player.
+ **/
+public final class GolemDataManager extends ReloadListener<Map<ResourceLocation, GolemData>> {
+
+  public static final String FOLDER = "golems";
+  private static final String EXTENSION = ".json";
+  private static final Gson GSON = new GsonBuilder().create();
+
+  @Override
+  protected Map<ResourceLocation, GolemData> prepare(final IResourceManager manager, final IProfiler profiler) {
+    final Collection<ResourceLocation> files = manager.getAllResourceLocations(FOLDER, s -> s.endsWith(EXTENSION));
+    return files.parallelStream()
+        .map(file -> load(manager, file))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  @Override
+  protected void apply(final Map<ResourceLocation, GolemData> data, final IResourceManager manager, final IProfiler profiler) {
+    final Map<GolemContainer, GolemConfigDelta> changes = GolemConfigDelta.compare(GolemRegistrar.getContainers(),
+        () -> GolemRegistrar.loadData(data));
+    // new golems use the new health and attack values
+    for (final GolemContainer c : GolemRegistrar.getContainers()) {
+      GlobalEntityTypeAttributes.put(c.getEntityType(), c.getAttributeSupplier().get().create());
+    }
+    // swim mode may have changed
+    GolemDescription.invalidateAll();
+    // when the server starts, the data is loaded before any golem or player
+    final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+    if (server != null) {
+      ExtraGolemsConfig.pushChanges(server, changes, "golem data");
+      GolemNetwork.sendDataToAll();
+    }
+  }
+
+  /**
+   * @param manager the resource manager
+   * @param file    the location of a golem data file
+   * @return the golem ID and the GolemData from the file, or null if the file
+   *         could not be read
+   **/
+  @Nullable
+  private static Map.Entry<ResourceLocation, GolemData> load(final IResourceManager manager, final ResourceLocation file) {
+    final String path = file.getPath();
+    final ResourceLocation id = new ResourceLocation(file.getNamespace(), path.substring(FOLDER.length() + 1, path.length() - EXTENSION.length()));
+    try (IResource resource = manager.getResource(file);
+        Reader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+      final JsonObject json = JSONUtils.fromJson(GSON, reader, JsonObject.class);
+      if (json == null) {
+        ExtraGolems.LOGGER.error("Golem data file '%s' is empty", file);
+        return null;
+      }
+      return new AbstractMap.SimpleImmutableEntry<>(id, GolemData.fromJson(id, json));
+    } catch (final IOException | JsonParseException | IllegalArgumentException e) {
+      ExtraGolems.LOGGER.error("Failed to load golem data file '%s': %s", file, e.getMessage());
+      return null;
+    }
+  }
+}
@@ -20,6 +20,9 @@ import net.minecraftforge.common.ForgeConfigSpec;
  **/
 public class GolemDescription {
 
+  /** Increased whenever every cached description must be built again **/
+  private static volatile int version = 0;
+
   private final IFormattableTextComponent text;
   private final String configKey;
   private final Predicate<ForgeConfigSpec.ConfigValue<?>> configValue;
@@ -102,4 +105,20 @@ public class GolemDescription {
     return this.configKey.isEmpty()
         || this.configValue.test(ExtraGolemsConfig.GOLEM_CONFIG.specials.get(container.getSpecialContainer(this.configKey)).value);
   }
+
+  /**
+   * Tells every {@link GolemContainer} to build its descriptions again, such as
+   * after the language or golem data is reloaded. Config loads are detected on
+   * their own.
+   *
+   * @see GolemContainer#getDescriptions()
+   **/
+  public static synchronized void invalidateAll() {
+    version++;
+  }
+
+  /** @return the current description version **/
+  public static int getVersion() {
+    return version;
+  }
 }
@@ -0,0 +1,304 @@
+package com.mcmoddev.golems.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.google.common.collect.ImmutableList;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.tags.ITag;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Describes the shape that must be built in the world in order to make a golem.
+ * A pattern is made of horizontal layers, from the layer with the golem head
+ * down to the lowest layer. In each layer, rows go from north to south and the
+ * characters in each row go from west to east. The following characters are
+ * reserved:
+ * <br>{@code '^'} = the golem head (exactly one per pattern)
+ * <br>{@code '#'} = any of the golem's building blocks
+ * <br>{@code ' '} = any block (not checked or removed)
+ * <br>Every other character must be given a set of blocks using one of the
+ * {@code where} methods in the {@link Builder}. The pattern is tested in every
+ * orientation that was added to the builder, but orientations that result in
+ * the same shape are only tested once.
+ *
+ * @see GolemContainer.Builder#setPattern(GolemPattern)
+ * @see GolemPatternMatcher
+ **/
+public final class GolemPattern {
+
+  public static final char HEAD = '^';
+  public static final char BUILDING_BLOCK = '#';
+  public static final char ANY = ' ';
+
+  /**
+   * The classic "T" shape, with arms going either North-South or East-West.
+   * North-South is tested first, so the arms are North then South in the first
+   * orientation and East then West in the second.
+   **/
+  public static final GolemPattern DEFAULT = new Builder()
+      .layer(" ", "^", " ")
+      .layer("#", "#", "#")
+      .layer(" ", "#", " ")
+      .addRotations(Rotation.NONE, Rotation.CLOCKWISE_90)
+      .build();
+
+  /** The vanilla Snow Golem: two snow blocks **/
+  public static final GolemPattern SNOW_GOLEM = new Builder()
+      .layer("^")
+      .layer("S")
+      .layer("S")
+      .where('S', Blocks.SNOW_BLOCK)
+      .build();
+
+  /** The vanilla Iron Golem: a "T" shape of iron blocks, North-South first **/
+  public static final GolemPattern IRON_GOLEM = new Builder()
+      .layer(" ", "^", " ")
+      .layer("I", "I", "I")
+      .layer(" ", "I", " ")
+      .where('I', Blocks.IRON_BLOCK)
+      .addRotations(Rotation.NONE, Rotation.CLOCKWISE_90)
+      .build();
+
+  private final ImmutableList<Orientation> orientations;
+  private final int height;
+  private final int buildingBlockCount;
+
+  private GolemPattern(final ImmutableList<Orientation> lOrientations, final int lHeight) {
+    this.orientations = lOrientations;
+    this.height = lHeight;
+    this.buildingBlockCount = lOrientations.get(0).buildingOffsets.length;
+  }
+
+  /** @return every distinct orientation of this pattern **/
+  public ImmutableList<Orientation> getOrientations() { return orientations; }
+
+  /** @return the number of layers in this pattern, including the head **/
+  public int getHeight() { return height; }
+
+  /** @return the number of building blocks that are used in this pattern **/
+  public int getBuildingBlockCount() { return buildingBlockCount; }
+
+  /**
+   * A single orientation of a pattern. Offsets are relative to the head and are
+   * packed using {@link BlockPos#pack(int, int, int)}.
+   **/
+  public static final class Orientation {
+    /** Building block offsets: the body, then the legs, then the rest in pattern order **/
+    private final long[] buildingOffsets;
+    /** Offsets that must match a specific set of blocks **/
+    private final long[] fixedOffsets;
+    private final List<Predicate<BlockState>> fixedTests;
+
+    private Orientation(final long[] lBuildingOffsets, final long[] lFixedOffsets, final List<Predicate<BlockState>> lFixedTests) {
+      this.buildingOffsets = lBuildingOffsets;
+      this.fixedOffsets = lFixedOffsets;
+      this.fixedTests = ImmutableList.copyOf(lFixedTests);
+    }
+
+    /** @return a copy of the packed offsets of each building block **/
+    public long[] getBuildingOffsets() { return buildingOffsets.clone(); }
+
+    /** @return a copy of the packed offsets of each block with a fixed block set **/
+    public long[] getFixedOffsets() { return fixedOffsets.clone(); }
+
+    /** @return the test for each block with a fixed block set, in the same order as the offsets **/
+    public List<Predicate<BlockState>> getFixedTests() { return fixedTests; }
+
+    /**
+     * @return a String that is the same for any two orientations with the same
+     *         shape and the same block sets
+     **/
+    private String getShapeKey() {
+      final long[] b = buildingOffsets.clone();
+      Arrays.sort(b);
+      final String[] f = new String[fixedOffsets.length];
+      for (int i = 0; i < f.length; i++) {
+        f[i] = fixedOffsets[i] + "=" + System.identityHashCode(fixedTests.get(i));
+      }
+      Arrays.sort(f);
+      return Arrays.toString(b) + Arrays.toString(f);
+    }
+  }
+
+  public static final class Builder {
+    private final List<String[]> layers = new ArrayList<>();
+    private final Map<Character, Predicate<BlockState>> keys = new HashMap<>();
+    private final Set<Rotation> rotations = EnumSet.noneOf(Rotation.class);
+
+    /**
+     * Adds the next layer of the pattern, starting with the layer that contains
+     * the head and moving down.
+     *
+     * @param rows the rows of this layer, from north to south. Each character is
+     *             one block, from west to east.
+     * @return instance to allow chaining of methods
+     **/
+    public Builder layer(final String... rows) {
+      layers.add(rows.clone());
+      return this;
+    }
+
+    /**
+     * Sets the blocks that are valid for the given character.
+     *
+     * @param key    a character used in the layers
+     * @param blocks the valid Blocks
+     * @return instance to allow chaining of methods
+     **/
+    public Builder where(final char key, final Block... blocks) {
+      final Set<Block> set = new LinkedHashSet<>(Arrays.asList(blocks));
+      return where(key, s -> set.contains(s.getBlock()));
+    }
+
+    /**
+     * Sets the Block Tag that is valid for the given character.
+     *
+     * @param key a character used in the layers
+     * @param tag the valid Block Tag
+     * @return instance to allow chaining of methods
+     **/
+    public Builder where(final char key, final ITag.INamedTag<Block> tag) {
+      return where(key, s -> s.isIn(tag));
+    }
+
+    /**
+     * Sets a test for the BlockStates that are valid for the given character.
+     *
+     * @param key  a character used in the layers
+     * @param test the BlockState test
+     * @return instance to allow chaining of methods
+     **/
+    public Builder where(final char key, final Predicate<BlockState> test) {
+      if (key == HEAD || key == BUILDING_BLOCK || key == ANY) {
+        throw new IllegalArgumentException("Golem pattern key '" + key + "' is reserved");
+      }
+      keys.put(key, test);
+      return this;
+    }
+
+    /**
+     * Adds rotations (around the head) in which this pattern can be built.
+     * <strong>Defaults to Rotation.NONE</strong>
+     *
+     * @param lRotations the rotations to add
+     * @return instance to allow chaining of methods
+     **/
+    public Builder addRotations(final Rotation... lRotations) {
+      rotations.addAll(Arrays.asList(lRotations));
+      return this;
+    }
+
+    /**
+     * Allows this pattern to be built facing any horizontal direction.
+     *
+     * @return instance to allow chaining of methods
+     **/
+    public Builder allRotations() {
+      return addRotations(Rotation.values());
+    }
+
+    /**
+     * Compiles the layers into the offsets for each distinct orientation.
+     *
+     * @return a new GolemPattern
+     **/
+    public GolemPattern build() {
+      // find the head
+      int headX = -1, headZ = -1;
+      final String[] top = layers.isEmpty() ? new String[0] : layers.get(0);
+      for (int z = 0; z < top.length; z++) {
+        final int x = top[z].indexOf(HEAD);
+        if (x >= 0) {
+          headX = x;
+          headZ = z;
+        }
+      }
+      if (headX < 0) {
+        throw new IllegalStateException("Golem pattern must have a head '" + HEAD + "' in the first layer");
+      }
+      // collect the offsets and keys of each block in the pattern
+      final List<int[]> offsets = new ArrayList<>();
+      final List<Character> chars = new ArrayList<>();
+      for (int y = 0; y < layers.size(); y++) {
+        final String[] rows = layers.get(y);
+        for (int z = 0; z < rows.length; z++) {
+          for (int x = 0; x < rows[z].length(); x++) {
+            final char c = rows[z].charAt(x);
+            if (c == ANY || c == HEAD) {
+              if (c == HEAD && (y != 0 || x != headX || z != headZ)) {
+                throw new IllegalStateException("Golem pattern must have exactly one head '" + HEAD + "'");
+              }
+              continue;
+            }
+            if (c != BUILDING_BLOCK && !keys.containsKey(c)) {
+              throw new IllegalStateException("Golem pattern key '" + c + "' has no blocks");
+            }
+            offsets.add(new int[] { x - headX, -y, z - headZ });
+            chars.add(c);
+          }
+        }
+      }
+      // make each orientation, skipping duplicates
+      final Set<Rotation> rots = rotations.isEmpty() ? EnumSet.of(Rotation.NONE) : rotations;
+      final Map<String, Orientation> distinct = new LinkedHashMap<>();
+      for (final Rotation rot : rots) {
+        final Orientation o = makeOrientation(rot, offsets, chars);
+        distinct.putIfAbsent(o.getShapeKey(), o);
+      }
+      return new GolemPattern(ImmutableList.copyOf(distinct.values()), layers.size());
+    }
+
+    private Orientation makeOrientation(final Rotation rot, final List<int[]> offsets, final List<Character> chars) {
+      final List<Long> body = new ArrayList<>();
+      final List<Long> legs = new ArrayList<>();
+      final List<Long> others = new ArrayList<>();
+      final List<Long> fixed = new ArrayList<>();
+      final List<Predicate<BlockState>> tests = new ArrayList<>();
+      for (int i = 0; i < offsets.size(); i++) {
+        final int[] o = offsets.get(i);
+        final long packed = rotate(rot, o[0], o[1], o[2]);
+        final char c = chars.get(i);
+        if (c != BUILDING_BLOCK) {
+          fixed.add(packed);
+          tests.add(keys.get(c));
+        } else if (o[0] == 0 && o[2] == 0 && o[1] == -1) {
+          body.add(packed);
+        } else if (o[0] == 0 && o[2] == 0 && o[1] == -2) {
+          legs.add(packed);
+        } else {
+          others.add(packed);
+        }
+      }
+      body.addAll(legs);
+      body.addAll(others);
+      return new Orientation(body.stream().mapToLong(Long::longValue).toArray(), fixed.stream().mapToLong(Long::longValue).toArray(), tests);
+    }
+
+    private static long rotate(final Rotation rot, final int x, final int y, final int z) {
+      switch (rot) {
+      case CLOCKWISE_90:
+        return BlockPos.pack(-z, y, x);
+      case CLOCKWISE_180:
+        return BlockPos.pack(-x, y, -z);
+      case COUNTERCLOCKWISE_90:
+        return BlockPos.pack(z, y, -x);
+      case NONE:
+      default:
+        return BlockPos.pack(x, y, z);
+      }
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package com.mcmoddev.golems.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableList;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+
+/**
+ * Compiled form of a group of {@link GolemPattern}s. Every block position used
+ * by any orientation of any of the patterns is read from the world only once,
+ * in a single pass, and each orientation then checks its slots against the
+ * BlockStates that were read.
+ *
+ * @see GolemRegistrar#getPatternMatcher()
+ **/
+public final class GolemPatternMatcher {
+
+  /** Union of every offset in every pattern, sorted so that chunk lookups are reused **/
+  private final long[] offsets;
+  /** The index of each offset in {@link #offsets} **/
+  private final Long2IntOpenHashMap offsetIndex;
+  private final ImmutableList<GolemPattern> patterns;
+  private final Map<GolemPattern, Compiled[]> compiled = new IdentityHashMap<>();
+
+  /**
+   * @param lPatterns the patterns that are used by golems, in the order they
+   *                  should be tested
+   * @param extra     additional patterns that will be tested separately
+   **/
+  public GolemPatternMatcher(final Collection<GolemPattern> lPatterns, final GolemPattern... extra) {
+    this.patterns = ImmutableList.copyOf(lPatterns);
+    // collect the union of all offsets
+    final LongArrayList union = new LongArrayList();
+    final Long2IntOpenHashMap unionIndex = new Long2IntOpenHashMap();
+    final List<GolemPattern> all = new ArrayList<>(lPatterns);
+    all.addAll(Arrays.asList(extra));
+    for (final GolemPattern p : all) {
+      for (final GolemPattern.Orientation o : p.getOrientations()) {
+        for (final long l : o.getBuildingOffsets()) {
+          if (!unionIndex.containsKey(l)) {
+            unionIndex.put(l, -1);
+            union.add(l);
+          }
+        }
+        for (final long l : o.getFixedOffsets()) {
+          if (!unionIndex.containsKey(l)) {
+            unionIndex.put(l, -1);
+            union.add(l);
+          }
+        }
+      }
+    }
+    // sort by x, then z, then y so that neighboring reads use the same chunk
+    final long[] sorted = union.toLongArray();
+    final Long[] boxed = Arrays.stream(sorted).boxed().toArray(Long[]::new);
+    Arrays.sort(boxed, (a, b) -> {
+      int c = Integer.compare(BlockPos.unpackX(a), BlockPos.unpackX(b));
+      if (c == 0) c = Integer.compare(BlockPos.unpackZ(a), BlockPos.unpackZ(b));
+      if (c == 0) c = Integer.compare(BlockPos.unpackY(a), BlockPos.unpackY(b));
+      return c;
+    });
+    this.offsets = new long[boxed.length];
+    for (int i = 0; i < boxed.length; i++) {
+      this.offsets[i] = boxed[i];
+      unionIndex.put(this.offsets[i], i);
+    }
+    unionIndex.defaultReturnValue(-1);
+    this.offsetIndex = unionIndex;
+    // compile each orientation into indices of the union
+    for (final GolemPattern p : all) {
+      final List<GolemPattern.Orientation> orientations = p.getOrientations();
+      final Compiled[] array = new Compiled[orientations.size()];
+      for (int i = 0; i < array.length; i++) {
+        array[i] = new Compiled(orientations.get(i), unionIndex);
+      }
+      this.compiled.put(p, array);
+    }
+  }
+
+  /** @return the patterns that are used by golems, in registration order **/
+  public ImmutableList<GolemPattern> getPatterns() {
+    return patterns;
+  }
+
+  /**
+   * Reads every position used by the compiled patterns in a single pass,
+   * directly from the chunk sections.
+   *
+   * @param world the World
+   * @param head  the position of the golem head
+   * @return the BlockStates at each position, to be passed to the other methods
+   **/
+  public BlockState[] read(final World world, final BlockPos head) {
+    final BlockState voidAir = Blocks.VOID_AIR.getDefaultState();
+    final BlockState air = Blocks.AIR.getDefaultState();
+    final BlockState[] states = new BlockState[offsets.length];
+    Chunk chunk = null;
+    for (int i = 0; i < offsets.length; i++) {
+      final int x = head.getX() + BlockPos.unpackX(offsets[i]);
+      final int y = head.getY() + BlockPos.unpackY(offsets[i]);
+      final int z = head.getZ() + BlockPos.unpackZ(offsets[i]);
+      if (y < 0 || y >= world.getHeight()) {
+        states[i] = voidAir;
+        continue;
+      }
+      if (chunk == null || chunk.getPos().x != (x >> 4) || chunk.getPos().z != (z >> 4)) {
+        chunk = world.getChunk(x >> 4, z >> 4);
+      }
+      final ChunkSection section = chunk.getSections()[y >> 4];
+      states[i] = (section == Chunk.EMPTY_SECTION || section.isEmpty()) ? air : section.getBlockState(x & 15, y & 15, z & 15);
+    }
+    return states;
+  }
+
+  /**
+   * @param area        the result of {@link #read(World, BlockPos)}
+   * @param pattern     a compiled pattern
+   * @param orientation the index of the orientation to check
+   * @return true if every block with a fixed block set is valid
+   **/
+  public boolean matchesFixed(final BlockState[] area, final GolemPattern pattern, final int orientation) {
+    final Compiled c = compiled.get(pattern)[orientation];
+    for (int i = 0; i < c.fixed.length; i++) {
+      if (!c.tests[i].test(area[c.fixed[i]])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param pattern a compiled pattern
+   * @return the index of the first orientation where every block with a fixed
+   *         block set is valid, or -1 if there is none
+   **/
+  public int findFixedMatch(final BlockState[] area, final GolemPattern pattern) {
+    final int count = compiled.get(pattern).length;
+    for (int o = 0; o < count; o++) {
+      if (matchesFixed(area, pattern, o)) {
+        return o;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param area        the result of {@link #read(World, BlockPos)}
+   * @param pattern     a compiled pattern
+   * @param orientation the index of the orientation
+   * @return the BlockStates of the building blocks: the body, the legs, and then
+   *         the rest in pattern order
+   **/
+  public BlockState[] getBuildingStates(final BlockState[] area, final GolemPattern pattern, final int orientation) {
+    return getBuildingStates(area, pattern, orientation, new BlockState[pattern.getBuildingBlockCount()]);
+  }
+
+  /**
+   * Same as {@link #getBuildingStates(BlockState[], GolemPattern, int)}, but
+   * fills the given array instead of making a new one.
+   *
+   * @param states an array with a length of
+   *               {@link GolemPattern#getBuildingBlockCount()}
+   * @return the given array
+   **/
+  public BlockState[] getBuildingStates(final BlockState[] area, final GolemPattern pattern, final int orientation, final BlockState[] states) {
+    final Compiled c = compiled.get(pattern)[orientation];
+    for (int i = 0; i < c.building.length; i++) {
+      states[i] = area[c.building[i]];
+    }
+    return states;
+  }
+
+  /**
+   * @param area the result of {@link #read(World, BlockPos)}
+   * @param dx   the x offset from the head
+   * @param dy   the y offset from the head
+   * @param dz   the z offset from the head
+   * @return the BlockState that was read at the offset, or null if the offset
+   *         is not used by any of the patterns
+   **/
+  @Nullable
+  public BlockState getState(final BlockState[] area, final int dx, final int dy, final int dz) {
+    final int i = offsetIndex.get(BlockPos.pack(dx, dy, dz));
+    return i >= 0 ? area[i] : null;
+  }
+
+  /**
+   * @param head        the position of the golem head
+   * @param pattern     a compiled pattern
+   * @param orientation the index of the orientation
+   * @return the head position followed by every block position in the pattern
+   **/
+  public static BlockPos[] getPositions(final BlockPos head, final GolemPattern pattern, final int orientation) {
+    final GolemPattern.Orientation o = pattern.getOrientations().get(orientation);
+    final long[] building = o.getBuildingOffsets();
+    final long[] fixed = o.getFixedOffsets();
+    final BlockPos[] positions = new BlockPos[1 + building.length + fixed.length];
+    positions[0] = head;
+    int i = 1;
+    for (final long l : building) {
+      positions[i++] = head.add(BlockPos.unpackX(l), BlockPos.unpackY(l), BlockPos.unpackZ(l));
+    }
+    for (final long l : fixed) {
+      positions[i++] = head.add(BlockPos.unpackX(l), BlockPos.unpackY(l), BlockPos.unpackZ(l));
+    }
+    return positions;
+  }
+
+  /**
+   * @param states BlockStates of building blocks
+   * @return the Block of each BlockState
+   **/
+  public static Block[] getBlocks(final BlockState[] states) {
+    return getBlocks(states, new Block[states.length]);
+  }
+
+  /**
+   * @param states BlockStates of building blocks
+   * @param blocks an array with the same length, to fill
+   * @return the given array, filled with the Block of each BlockState
+   **/
+  public static Block[] getBlocks(final BlockState[] states, final Block[] blocks) {
+    for (int i = 0; i < states.length; i++) {
+      blocks[i] = states[i].getBlock();
+    }
+    return blocks;
+  }
+
+  /**
+   * A single orientation with its offsets replaced by indices in the union.
+   **/
+  private static final class Compiled {
+    private final int[] building;
+    private final int[] fixed;
+    private final Predicate<BlockState>[] tests;
+
+    @SuppressWarnings("unchecked")
+    private Compiled(final GolemPattern.Orientation o, final Long2IntOpenHashMap unionIndex) {
+      this.building = Arrays.stream(o.getBuildingOffsets()).mapToInt(unionIndex::get).toArray();
+      this.fixed = Arrays.stream(o.getFixedOffsets()).mapToInt(unionIndex::get).toArray();
+      this.tests = o.getFixedTests().toArray(new Predicate[0]);
+    }
+  }
+}
@@ -1,14 +1,28 @@
 package com.mcmoddev.golems.util;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.main.ExtraGolems;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityType;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.ITagCollection;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 
@@ -21,23 +35,109 @@ import net.minecraft.world.World;
  */
 public final class GolemRegistrar {
 
+  /**
+   * Every registered golem, kept for addons that read it directly. Golems that
+   * are put here instead of being registered are still picked up until the
+   * registry is frozen, with a warning.
+   *
+   * @deprecated use {@link #getContainers()} or
+   *             {@link #getContainer(ResourceLocation)}
+   **/
+  @Deprecated
   public static HashMap<ResourceLocation, GolemContainer> golemList = new HashMap<>();
 
+  /** All golems registered before the registry is frozen, in registration order **/
+  private static final Map<ResourceLocation, GolemContainer> golems = new LinkedHashMap<>();
+
+  /** Immutable copy of the registry, only present once the registry is frozen **/
+  private static volatile Snapshot snapshot = null;
+
+  /** Reverse lookup of building blocks to GolemContainers, only used before the registry is frozen **/
+  private static volatile BlockIndex blockIndex = null;
+
+  /** Data pack settings of each golem, replaced as a whole when data packs are reloaded **/
+  private static volatile ImmutableMap<ResourceLocation, GolemData> golemData = ImmutableMap.of();
+
+  /** Resolved building blocks and reverse lookup of the frozen registry, rebuilt when needed **/
+  private static volatile Tables tables = null;
+
+  /** Compiled patterns of every golem, rebuilt when golems are registered **/
+  private static volatile GolemPatternMatcher patternMatcher = null;
+
   private GolemRegistrar() {
     //
   }
 
   /**
-   * Register a fully built GolemContainer to the mod.
+   * Register a fully built GolemContainer to the mod. This must be done before
+   * the registry is frozen, which happens once every mod has handled
+   * {@code InterModProcessEvent}.
    * 
    * @param container a unique GolemContainer with a unique ID
    * @see GolemContainer#getRegistryName()
    **/
   public static void registerGolem(final GolemContainer container) {
-    if (golemList.containsKey(container.getRegistryName())) {
+    synchronized (golems) {
+      if (isFrozen()) {
+        ExtraGolems.LOGGER.error("Tried to register golem '%s' after the golem registry was frozen!", container.getRegistryName());
+        return;
+      }
+      if (golems.containsKey(container.getRegistryName())) {
+        return;
+      }
+      golems.put(container.getRegistryName(), container);
+      golemList.put(container.getRegistryName(), container);
+    }
+    patternMatcher = null;
+    invalidateBlockIndex();
+  }
+
+  /**
+   * Makes an immutable copy of every registered GolemContainer and gives each
+   * one a dense numerical ID in registration order. After this is called, no
+   * golems can be registered and no building blocks can be added. The frozen
+   * registry is safe to read from any thread.
+   **/
+  public static void freeze() {
+    synchronized (golems) {
+      if (isFrozen()) {
+        return;
+      }
+      addLegacyGolems();
+      final GolemContainer[] byId = golems.values().toArray(new GolemContainer[0]);
+      for (int id = 0; id < byId.length; id++) {
+        byId[id].freeze(id);
+      }
+      snapshot = new Snapshot(byId);
+    }
+    patternMatcher = null;
+    invalidateBlockIndex();
+    ExtraGolems.LOGGER.debug("Froze golem registry with %d golems", getCount());
+  }
+
+  /**
+   * Registers golems that an addon put in {@link #golemList} directly instead of
+   * calling {@link #registerGolem(GolemContainer)}. Only call this while holding
+   * the lock on {@link #golems}, before the registry is frozen.
+   **/
+  @SuppressWarnings("deprecation")
+  private static void addLegacyGolems() {
+    if (golemList.size() == golems.size()) {
       return;
     }
-    golemList.put(container.getRegistryName(), container);
+    for (final Map.Entry<ResourceLocation, GolemContainer> entry : golemList.entrySet()) {
+      if (entry.getValue() != null && !golems.containsKey(entry.getKey())) {
+        ExtraGolems.LOGGER.warn("Golem '%s' was added to GolemRegistrar.golemList directly, use registerGolem instead", entry.getKey());
+        golems.put(entry.getKey(), entry.getValue());
+        patternMatcher = null;
+        invalidateBlockIndex();
+      }
+    }
+  }
+
+  /** @return true if the registry has been frozen and can no longer change **/
+  public static boolean isFrozen() {
+    return snapshot != null;
   }
 
   /**
@@ -48,7 +148,11 @@ public final class GolemRegistrar {
    **/
   @Nullable
   public static GolemContainer getContainer(final EntityType<?> entityType) {
-    return entityType != null ? getContainer(entityType.getRegistryName()) : null;
+    if (entityType == null) {
+      return null;
+    }
+    final Snapshot s = snapshot;
+    return s != null ? s.byType.get(entityType) : getContainer(entityType.getRegistryName());
   }
 
   /**
@@ -59,7 +163,25 @@ public final class GolemRegistrar {
    **/
   @Nullable
   public static GolemContainer getContainer(final ResourceLocation name) {
-    return golemList.get(name);
+    final Snapshot s = snapshot;
+    if (s != null) {
+      return s.byName.get(name);
+    }
+    synchronized (golems) {
+      addLegacyGolems();
+      return golems.get(name);
+    }
+  }
+
+  /**
+   * @param id a numerical ID from {@link GolemContainer#getId()}
+   * @return the GolemContainer with this ID, or null if there is none or the
+   *         registry is not frozen yet
+   **/
+  @Nullable
+  public static GolemContainer getContainer(final int id) {
+    final Snapshot s = snapshot;
+    return (s != null && id >= 0 && id < s.byId.length) ? s.byId[id] : null;
   }
   
   /**
@@ -67,35 +189,298 @@ public final class GolemRegistrar {
    * @return if the GolemContainer has been registered under this name
    **/
   public static boolean hasContainer(final ResourceLocation name) {
-    return golemList.containsKey(name);
+    return getContainer(name) != null;
+  }
+
+  /** @return the number of registered golems **/
+  public static int getCount() {
+    final Snapshot s = snapshot;
+    if (s != null) {
+      return s.byId.length;
+    }
+    synchronized (golems) {
+      addLegacyGolems();
+      return golems.size();
+    }
   }
 
   /**
-   * Checks all registered GolemContainers until one is found that is constructed
-   * out of the passed Blocks. Parameters are the current World and the 4 blocks
-   * that will be used to calculate this Golem. It is okay to pass {@code null} or
-   * Air.
+   * Finds the GolemContainer that is constructed out of the passed Blocks.
+   * Parameters are the current World and the 4 blocks that will be used to
+   * calculate this Golem. It is okay to pass {@code null} or Air.
    *
    * @return the constructed GolemBase instance if there is one for the passed
    *         blocks, otherwise null
-   * @see GolemContainer#areBuildingBlocks(Block, Block, Block, Block)
+   * @see #getContainer(Block, Block, Block, Block)
    **/
   @Nullable
   public static GolemBase getGolem(World world, Block below1, Block below2, Block arm1, Block arm2) {
-    GolemContainer container = null;
-    for (GolemContainer c : golemList.values()) {
-      if (c.areBuildingBlocks(below1, below2, arm1, arm2)) {
-        container = c;
-        break;
-      }
-    }
+    final GolemContainer container = getContainer(below1, below2, arm1, arm2);
     if (container == null) {
       return null;
     }
     return container.getEntityType().create(world);
   }
 
+  /**
+   * Finds the GolemContainer whose building blocks include all of the given
+   * Blocks. Only the golems that can be built from every one of the blocks are
+   * checked, and when more than one golem matches, the one that was registered
+   * first is returned.
+   *
+   * @param body the Block immediately below the head
+   * @param legs the Block immediately below the body Block
+   * @param arm1 first arm Block (could be North-South or East-West)
+   * @param arm2 second arm Block (could be North-South or East-West)
+   * @return the matching GolemContainer, or null if none is found
+   * @see GolemContainer#areBuildingBlocks(Block, Block, Block, Block)
+   **/
+  @Nullable
+  public static GolemContainer getContainer(final Block body, final Block legs, final Block arm1, final Block arm2) {
+    return findContainer(null, body, legs, arm1, arm2);
+  }
+
+  /**
+   * Finds the GolemContainer that uses the given pattern and whose building
+   * blocks include all of the given Blocks. When more than one golem matches,
+   * the one that was registered first is returned.
+   *
+   * @param pattern the GolemPattern that was built
+   * @param blocks  the Blocks that were used in each building block slot
+   * @return the matching GolemContainer, or null if none is found
+   * @see GolemPattern#BUILDING_BLOCK
+   **/
+  @Nullable
+  public static GolemContainer getContainer(final GolemPattern pattern, final Block... blocks) {
+    return findContainer(pattern, blocks);
+  }
+
+  /**
+   * @param pattern the GolemPattern to match, or null to match any pattern
+   * @param blocks  the Blocks that must all be building blocks
+   * @return the first registered GolemContainer that matches, or null
+   **/
+  @Nullable
+  private static GolemContainer findContainer(@Nullable final GolemPattern pattern, final Block... blocks) {
+    if (blocks.length == 0) {
+      return null;
+    }
+    final Map<Block, ImmutableSet<GolemContainer>> index = getBlockIndex();
+    final Set<?>[] sets = new Set<?>[blocks.length];
+    Set<GolemContainer> smallest = null;
+    for (int i = 0; i < blocks.length; i++) {
+      final Set<GolemContainer> set = index.get(blocks[i]);
+      if (set == null) {
+        return null;
+      }
+      sets[i] = set;
+      if (smallest == null || set.size() < smallest.size()) {
+        smallest = set;
+      }
+    }
+    // iterate the smallest candidate set; each set is in registration order
+    outer:
+    for (final GolemContainer c : smallest) {
+      if (pattern != null && c.getPattern() != pattern) {
+        continue;
+      }
+      for (final Set<?> set : sets) {
+        if (!set.contains(c)) {
+          continue outer;
+        }
+      }
+      return c;
+    }
+    return null;
+  }
+
+  /**
+   * @return the compiled patterns of every registered golem, along with the
+   *         vanilla Snow Golem and Iron Golem patterns
+   **/
+  public static GolemPatternMatcher getPatternMatcher() {
+    GolemPatternMatcher matcher = patternMatcher;
+    if (matcher == null) {
+      final Set<GolemPattern> patterns = new LinkedHashSet<>();
+      for (final GolemContainer c : getContainers()) {
+        patterns.add(c.getPattern());
+      }
+      matcher = new GolemPatternMatcher(patterns, GolemPattern.SNOW_GOLEM, GolemPattern.IRON_GOLEM);
+      patternMatcher = matcher;
+    }
+    return matcher;
+  }
+
+  /**
+   * Discards the reverse building-block lookup so that it is rebuilt the next
+   * time a golem is matched. Called when golems are registered or when building
+   * blocks are added to an existing golem.
+   **/
+  static void invalidateBlockIndex() {
+    blockIndex = null;
+  }
+
+  /**
+   * @return a map of each building block to the GolemContainers that use it,
+   *         rebuilt if the Block Tags have been reloaded since it was made
+   **/
+  private static Map<Block, ImmutableSet<GolemContainer>> getBlockIndex() {
+    if (isFrozen()) {
+      return getTables().index.candidates;
+    }
+    final ITagCollection<Block> tags = BlockTags.getCollection();
+    BlockIndex index = blockIndex;
+    if (index == null || index.tags != tags) {
+      index = new BlockIndex(tags, getContainers());
+      blockIndex = index;
+    }
+    return index.candidates;
+  }
+
+  /**
+   * Replaces the data pack settings of every golem. The building blocks of every
+   * golem and the reverse lookup are resolved before anything is replaced, so
+   * golems are never matched against a mix of old and new settings.
+   *
+   * @param data the settings of each golem by golem ID. Golems that are not
+   *             in the map go back to their own settings.
+   * @see GolemDataManager
+   **/
+  public static void loadData(final Map<ResourceLocation, GolemData> data) {
+    final ImmutableMap<ResourceLocation, GolemData> copy = ImmutableMap.copyOf(data);
+    for (final ResourceLocation name : copy.keySet()) {
+      if (!hasContainer(name)) {
+        ExtraGolems.LOGGER.warn("Found golem data for '%s' but there is no golem with that ID", name);
+      }
+    }
+    final Snapshot s = snapshot;
+    // set the data before the tables so that readers never keep stale tables
+    golemData = copy;
+    if (s != null) {
+      tables = new Tables(BlockTags.getCollection(), copy, s.byId);
+    }
+    for (final GolemContainer container : getContainers()) {
+      container.setData(copy.get(container.getRegistryName()));
+    }
+    ExtraGolems.LOGGER.debug("Loaded golem data for %d golems", copy.size());
+  }
+
+  /**
+   * @return the data pack settings of each golem by golem ID, as last passed to
+   *         {@link #loadData(Map)}
+   **/
+  public static ImmutableMap<ResourceLocation, GolemData> getData() {
+    return golemData;
+  }
+
+  /**
+   * @param id the numerical ID of a golem in the frozen registry
+   * @return the resolved building blocks and data pack settings of the golem
+   **/
+  static GolemContainer.ResolvedBlocks getResolvedBlocks(final int id) {
+    return getTables().resolved[id];
+  }
+
+  /**
+   * @return the resolved tables of the frozen registry, rebuilt if the Block Tags
+   *         or data packs have been reloaded since they were made
+   **/
+  private static Tables getTables() {
+    final ITagCollection<Block> tags = BlockTags.getCollection();
+    final ImmutableMap<ResourceLocation, GolemData> data = golemData;
+    Tables t = tables;
+    if (t == null || t.tags != tags || t.data != data) {
+      t = new Tables(tags, data, snapshot.byId);
+      tables = t;
+    }
+    return t;
+  }
+
+  /**
+   * @return all registered GolemContainers in registration order. Once the
+   *         registry is frozen, this is an immutable list; before that, it is
+   *         a copy of the containers registered so far.
+   **/
   public static Collection<GolemContainer> getContainers() {
-    return golemList.values();
+    final Snapshot s = snapshot;
+    if (s != null) {
+      return s.list;
+    }
+    synchronized (golems) {
+      addLegacyGolems();
+      return ImmutableList.copyOf(golems.values());
+    }
+  }
+
+  /**
+   * Immutable copy of the registry that is made when it is frozen.
+   **/
+  private static final class Snapshot {
+    private final GolemContainer[] byId;
+    private final ImmutableList<GolemContainer> list;
+    private final ImmutableMap<ResourceLocation, GolemContainer> byName;
+    /** Never modified after construction **/
+    private final Reference2ObjectOpenHashMap<EntityType<?>, GolemContainer> byType;
+
+    private Snapshot(final GolemContainer[] containers) {
+      final ImmutableMap.Builder<ResourceLocation, GolemContainer> names = ImmutableMap.builder();
+      this.byType = new Reference2ObjectOpenHashMap<>(containers.length);
+      for (final GolemContainer c : containers) {
+        names.put(c.getRegistryName(), c);
+        this.byType.put(c.getEntityType(), c);
+      }
+      this.byId = containers;
+      this.list = ImmutableList.copyOf(containers);
+      this.byName = names.build();
+    }
+  }
+
+  /**
+   * Immutable reverse lookup of building blocks to GolemContainers, along with
+   * the Block Tag collection that was used to resolve it.
+   **/
+  private static final class BlockIndex {
+    private final ITagCollection<Block> tags;
+    private final ImmutableMap<Block, ImmutableSet<GolemContainer>> candidates;
+
+    private BlockIndex(final ITagCollection<Block> tagsIn, final Collection<GolemContainer> containers) {
+      this(tagsIn, containers, GolemContainer::getBuildingBlocks);
+    }
+
+    private BlockIndex(final ITagCollection<Block> tagsIn, final Collection<GolemContainer> containers,
+        final Function<GolemContainer, Set<Block>> blocks) {
+      final Map<Block, ImmutableSet.Builder<GolemContainer>> map = new LinkedHashMap<>();
+      for (final GolemContainer c : containers) {
+        for (final Block b : blocks.apply(c)) {
+          map.computeIfAbsent(b, k -> ImmutableSet.builder()).add(c);
+        }
+      }
+      final ImmutableMap.Builder<Block, ImmutableSet<GolemContainer>> builder = ImmutableMap.builder();
+      map.forEach((b, set) -> builder.put(b, set.build()));
+      this.tags = tagsIn;
+      this.candidates = builder.build();
+    }
+  }
+
+  /**
+   * Building blocks and data pack settings of every golem in the frozen
+   * registry, indexed by golem ID, along with the reverse lookup that was made
+   * from them. Replaced as a whole when the Block Tags or data packs change.
+   **/
+  private static final class Tables {
+    private final ITagCollection<Block> tags;
+    private final ImmutableMap<ResourceLocation, GolemData> data;
+    private final GolemContainer.ResolvedBlocks[] resolved;
+    private final BlockIndex index;
+
+    private Tables(final ITagCollection<Block> tagsIn, final ImmutableMap<ResourceLocation, GolemData> dataIn, final GolemContainer[] byId) {
+      this.tags = tagsIn;
+      this.data = dataIn;
+      this.resolved = new GolemContainer.ResolvedBlocks[byId.length];
+      for (int id = 0; id < byId.length; id++) {
+        this.resolved[id] = byId[id].resolve(tagsIn, dataIn.get(byId[id].getRegistryName()));
+      }
+      this.index = new BlockIndex(tagsIn, Arrays.asList(byId), c -> this.resolved[c.getId()].getBlocks());
+    }
   }
 }
@@ -0,0 +1,274 @@
+package com.mcmoddev.golems.util.area;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+import com.mcmoddev.golems.entity.base.GolemBase;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Keeps track of the areas that golems with the same effect have already
+ * checked during the current tick, one instance per world. When several golems
+ * stand close together (such as a group of Ice Golems building a bridge), each
+ * position is only checked by the first golem whose area covers it in that
+ * tick, and that golem's event gets the credit for the position.
+ **/
+public final class AreaEffectCoordinator {
+
+  /** The area effects that are coordinated **/
+  public enum Effect {
+    FREEZE, SOAK;
+  }
+
+  private static final Map<World, AreaEffectCoordinator> COORDINATORS = new WeakHashMap<>();
+
+  /** Areas claimed for each effect. Regions past the count are kept for reuse. **/
+  private final List<List<Region>> regions = new ArrayList<>();
+  /** The number of regions claimed during the current tick, for each effect **/
+  private final int[] counts = new int[Effect.values().length];
+  /** The shape returned by {@link #getClaimedByOthers}, for each effect **/
+  private final Claims[] claims = new Claims[Effect.values().length];
+  /** The game time when the regions were claimed **/
+  private long tick = Long.MIN_VALUE;
+
+  private AreaEffectCoordinator() {
+    for (int i = 0, l = Effect.values().length; i < l; i++) {
+      regions.add(new ArrayList<>());
+      claims[i] = new Claims();
+    }
+  }
+
+  /**
+   * @param world the world
+   * @return the coordinator for the world. Only use this on the server thread.
+   **/
+  public static AreaEffectCoordinator get(final World world) {
+    return COORDINATORS.computeIfAbsent(world, w -> new AreaEffectCoordinator());
+  }
+
+  /**
+   * Forgets the coordinator for a world that is being unloaded.
+   *
+   * @param world the world. Only call this on the server thread.
+   **/
+  public static void remove(final World world) {
+    COORDINATORS.remove(world);
+  }
+
+  /**
+   * Claims an area for a golem. Call this after the golem has checked the area,
+   * so that other golems with the same effect skip it for the rest of the tick.
+   *
+   * @param effect the area effect
+   * @param golem  the golem that checked the area
+   * @param center the center of the area
+   * @param rx     the largest x offset in the shape
+   * @param ry     the largest y offset in the shape
+   * @param rz     the largest z offset in the shape
+   * @param shape  the positions in the area
+   **/
+  public void claim(final Effect effect, final GolemBase golem, final BlockPos center, final int rx, final int ry, final int rz,
+      final AreaScanner.IShape shape) {
+    update(golem.getEntityWorld().getGameTime());
+    final List<Region> all = regions.get(effect.ordinal());
+    final int count = counts[effect.ordinal()]++;
+    if (count == all.size()) {
+      all.add(new Region());
+    }
+    all.get(count).set(golem.getEntityId(), center, rx, ry, rz, shape);
+  }
+
+  /**
+   * Claims a set of positions for a golem. The positions are copied, so the set
+   * can be changed as soon as this returns.
+   *
+   * @param effect    the area effect
+   * @param golem     the golem that checked the positions
+   * @param center    the center of the area
+   * @param rx        the largest x offset of any position from the center
+   * @param ry        the largest y offset of any position from the center
+   * @param rz        the largest z offset of any position from the center
+   * @param positions the packed positions that were checked
+   * @see #claim(Effect, GolemBase, BlockPos, int, int, int, AreaScanner.IShape)
+   **/
+  public void claim(final Effect effect, final GolemBase golem, final BlockPos center, final int rx, final int ry, final int rz,
+      final LongSet positions) {
+    update(golem.getEntityWorld().getGameTime());
+    final List<Region> all = regions.get(effect.ordinal());
+    final int count = counts[effect.ordinal()]++;
+    if (count == all.size()) {
+      all.add(new Region());
+    }
+    all.get(count).set(golem.getEntityId(), center, rx, ry, rz, positions);
+  }
+
+  /**
+   * Claims an area for a golem, using the shape and radius of the table.
+   *
+   * @param effect the area effect
+   * @param golem  the golem that checked the area
+   * @param center the center of the area
+   * @param table  the positions in the area
+   * @see #claim(Effect, GolemBase, BlockPos, int, int, int, AreaScanner.IShape)
+   **/
+  public void claim(final Effect effect, final GolemBase golem, final BlockPos center, final OffsetTable table) {
+    claim(effect, golem, center, table.getRadiusX(), table.getRadiusY(), table.getRadiusZ(), table);
+  }
+
+  /**
+   * @param effect the area effect
+   * @param golem  the golem that is about to check an area
+   * @param center the center of the area
+   * @param rx     the largest x offset in the shape
+   * @param ry     the largest y offset in the shape
+   * @param rz     the largest z offset in the shape
+   * @return a shape, relative to the center, containing every position that a
+   *         different golem already checked this tick. Null if no other golem's
+   *         area overlaps. The shape is reused, so it is only valid until this
+   *         method is called again for the same effect.
+   **/
+  @Nullable
+  public AreaScanner.IShape getClaimedByOthers(final Effect effect, final GolemBase golem, final BlockPos center,
+      final int rx, final int ry, final int rz) {
+    update(golem.getEntityWorld().getGameTime());
+    final int count = counts[effect.ordinal()];
+    if (count == 0) {
+      return null;
+    }
+    final List<Region> all = regions.get(effect.ordinal());
+    final Claims result = claims[effect.ordinal()];
+    result.begin(center, count);
+    for (int i = 0; i < count; i++) {
+      final Region r = all.get(i);
+      if (r.owner != golem.getEntityId() && r.overlaps(center, rx, ry, rz)) {
+        result.add(r);
+      }
+    }
+    return result.isEmpty() ? null : result;
+  }
+
+  /**
+   * @param effect the area effect
+   * @param golem  the golem that is about to check an area
+   * @param center the center of the area
+   * @param table  the positions in the area
+   * @return the positions that a different golem already checked this tick
+   * @see #getClaimedByOthers(Effect, GolemBase, BlockPos, int, int, int)
+   **/
+  @Nullable
+  public AreaScanner.IShape getClaimedByOthers(final Effect effect, final GolemBase golem, final BlockPos center,
+      final OffsetTable table) {
+    return getClaimedByOthers(effect, golem, center, table.getRadiusX(), table.getRadiusY(), table.getRadiusZ());
+  }
+
+  /**
+   * Forgets the regions from earlier ticks.
+   *
+   * @param gameTime the current game time
+   **/
+  private void update(final long gameTime) {
+    if (gameTime != tick) {
+      tick = gameTime;
+      Arrays.fill(counts, 0);
+      // the shapes might belong to golems that are gone by now
+      for (final List<Region> all : regions) {
+        for (final Region r : all) {
+          r.shape = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * The regions that overlap one golem's area, relative to its center.
+   **/
+  private static final class Claims implements AreaScanner.IShape {
+    private Region[] overlapping = new Region[4];
+    private int size;
+    private int x, y, z;
+
+    private void begin(final BlockPos center, final int capacity) {
+      if (overlapping.length < capacity) {
+        overlapping = new Region[Math.max(capacity, overlapping.length * 2)];
+      } else {
+        // do not keep regions from the last query alive longer than needed
+        Arrays.fill(overlapping, 0, size, null);
+      }
+      this.size = 0;
+      this.x = center.getX();
+      this.y = center.getY();
+      this.z = center.getZ();
+    }
+
+    private void add(final Region region) {
+      overlapping[size++] = region;
+    }
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+
+    @Override
+    public boolean contains(final int dx, final int dy, final int dz) {
+      for (int i = 0; i < size; i++) {
+        if (overlapping[i].contains(x + dx, y + dy, z + dz)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * An area that was checked by a single golem. Regions are reused each tick.
+   * Either the shape or the copied positions are used, not both.
+   **/
+  private static final class Region {
+    private int owner;
+    private int x, y, z;
+    private int rx, ry, rz;
+    @Nullable
+    private AreaScanner.IShape shape;
+    /** Packed positions copied from the golem, used when there is no shape **/
+    private final LongOpenHashSet positions = new LongOpenHashSet();
+
+    private void set(final int lOwner, final BlockPos center, final int lRx, final int lRy, final int lRz, final AreaScanner.IShape lShape) {
+      this.owner = lOwner;
+      this.x = center.getX();
+      this.y = center.getY();
+      this.z = center.getZ();
+      this.rx = lRx;
+      this.ry = lRy;
+      this.rz = lRz;
+      this.shape = lShape;
+      this.positions.clear();
+    }
+
+    private void set(final int lOwner, final BlockPos center, final int lRx, final int lRy, final int lRz, final LongSet lPositions) {
+      set(lOwner, center, lRx, lRy, lRz, (AreaScanner.IShape) null);
+      this.positions.addAll(lPositions);
+    }
+
+    private boolean overlaps(final BlockPos center, final int orx, final int ory, final int orz) {
+      return Math.abs(center.getX() - x) <= rx + orx && Math.abs(center.getY() - y) <= ry + ory && Math.abs(center.getZ() - z) <= rz + orz;
+    }
+
+    private boolean contains(final int px, final int py, final int pz) {
+      final int dx = px - x, dy = py - y, dz = pz - z;
+      if (dx < -rx || dx > rx || dy < -ry || dy > ry || dz < -rz || dz > rz) {
+        return false;
+      }
+      return shape != null ? shape.contains(dx, dy, dz) : positions.contains(BlockPos.pack(px, py, pz));
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.mcmoddev.golems.util.area;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import com.mcmoddev.golems.main.ExtraGolems;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorldReader;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
+
+/**
+ * Visits the blocks in an area around a golem, using a shared
+ * {@link OffsetTable} for the shape of the area. Before any block in a chunk
+ * section is read, the section's palette is checked for states that the
+ * caller cares about. Sections without any of those states (such as a section
+ * with no water, for a sponge golem) are skipped entirely. Unloaded chunks are
+ * also skipped. The number of sections checked and skipped is counted, and
+ * logged when the server stops.
+ **/
+public final class AreaScanner {
+
+  /** Sections that had at least one candidate state, added up at the end of each scan **/
+  private static final AtomicLong sectionsScanned = new AtomicLong();
+  /** Sections that were skipped without reading any blocks, added up at the end of each scan **/
+  private static final AtomicLong sectionsPruned = new AtomicLong();
+  /** Reused for each scan, one per thread **/
+  private static final ThreadLocal<ScanContext> CONTEXT = ThreadLocal.withInitial(ScanContext::new);
+
+  private AreaScanner() {
+    //
+  }
+
+  /**
+   * The positions to visit, as offsets from the center of the area.
+   **/
+  @FunctionalInterface
+  public interface IShape {
+    boolean contains(final int dx, final int dy, final int dz);
+  }
+
+  /**
+   * @param radius the radius of the disc
+   * @return a disc that is three blocks tall, as used by the Ice Golem
+   **/
+  public static IShape disc(final int radius) {
+    final int maxDis = radius * radius;
+    return (dx, dy, dz) -> dy >= -1 && dy <= 1 && distanceSq(dx, dy, dz) <= maxDis;
+  }
+
+  /**
+   * @param radius the radius of the sphere
+   * @return a sphere, as used by the Sponge Golem
+   **/
+  public static IShape sphere(final int radius) {
+    final int maxDis = radius * radius;
+    return (dx, dy, dz) -> distanceSq(dx, dy, dz) <= maxDis;
+  }
+
+  /**
+   * Same as {@link BlockPos#distanceSq(net.minecraft.util.math.vector.Vector3i)}
+   * from a center position to a position at the given offset.
+   *
+   * @param dx the x offset
+   * @param dy the y offset
+   * @param dz the z offset
+   * @return the squared distance
+   **/
+  public static double distanceSq(final int dx, final int dy, final int dz) {
+    final double x = 0.5D - dx;
+    final double y = 0.5D - dy;
+    final double z = 0.5D - dz;
+    return x * x + y * y + z * z;
+  }
+
+  /**
+   * Receives each position in the shape whose section may contain a candidate.
+   **/
+  @FunctionalInterface
+  public interface IVisitor {
+    /**
+     * @param pos   the position. This is reused, so call {@code toImmutable()}
+     *              to keep it.
+     * @param state the block state at the position
+     **/
+    void visit(final BlockPos.Mutable pos, final BlockState state);
+  }
+
+  /**
+   * Visits every position in the table, except for those in sections that have
+   * no candidate states. Positions below or above the world are not visited.
+   * Does not create any objects.
+   *
+   * @param world      the world
+   * @param center     the center of the area
+   * @param table      the positions to visit
+   * @param candidates the states that the caller needs to see. This may be
+   *                   tested against every state in a section's palette.
+   * @param visitor    called for each position that was not skipped
+   **/
+  public static void scan(final IWorldReader world, final BlockPos center, final OffsetTable table,
+      final Predicate<BlockState> candidates, final IVisitor visitor) {
+    // a visitor that starts another scan gets its own context
+    final ScanContext context = CONTEXT.get().world == null ? CONTEXT.get() : new ScanContext();
+    context.begin(world, candidates);
+    final BlockPos.Mutable pos = context.pos;
+    final int x = center.getX();
+    final int y = center.getY();
+    final int z = center.getZ();
+    try {
+      for (int i = 0, l = table.size(); i < l; i++) {
+        final long offset = table.get(i);
+        pos.setPos(x + BlockPos.unpackX(offset), y + BlockPos.unpackY(offset), z + BlockPos.unpackZ(offset));
+        final BlockState state = context.getBlockState(pos);
+        if (state != null) {
+          visitor.visit(pos, state);
+        }
+      }
+    } finally {
+      context.end();
+    }
+  }
+
+  /** @return the number of sections that had at least one candidate state **/
+  public static long getSectionsScanned() { return sectionsScanned.get(); }
+
+  /** @return the number of sections that were skipped without reading any blocks **/
+  public static long getSectionsPruned() { return sectionsPruned.get(); }
+
+  /**
+   * Logs how many sections were checked and skipped, and sets the counts back
+   * to zero.
+   **/
+  public static void logMetrics() {
+    final long scanned = sectionsScanned.getAndSet(0);
+    final long pruned = sectionsPruned.getAndSet(0);
+    if (scanned + pruned > 0) {
+      ExtraGolems.LOGGER.debug("Golem area scans skipped %s of %s chunk sections", pruned, scanned + pruned);
+    }
+  }
+
+  /**
+   * @param section    a chunk section that is not empty
+   * @param candidates the states to look for
+   * @return true if any state in the section's palette is a candidate
+   **/
+  private static boolean mayContain(final ChunkSection section, final Predicate<BlockState> candidates) {
+    return section.func_235962_a_(candidates); // hasAny
+  }
+
+  /**
+   * Remembers which chunk sections were skipped during a single scan.
+   **/
+  private static final class ScanContext {
+    /** Marks a section that was skipped **/
+    private static final Object PRUNED = new Object();
+    /** Marks a section that is empty, but air is a candidate **/
+    private static final Object AIR = new Object();
+
+    private final BlockPos.Mutable pos = new BlockPos.Mutable();
+    /** The ChunkSection, {@link #PRUNED}, or {@link #AIR} for each section visited so far **/
+    private final Long2ObjectOpenHashMap<Object> sections = new Long2ObjectOpenHashMap<>();
+    private IWorldReader world;
+    private Predicate<BlockState> candidates;
+    private boolean airIsCandidate;
+    private long lastKey;
+    private Object last;
+    private int scanned;
+    private int pruned;
+
+    private void begin(final IWorldReader lWorld, final Predicate<BlockState> lCandidates) {
+      this.world = lWorld;
+      this.candidates = lCandidates;
+      this.airIsCandidate = lCandidates.test(Blocks.AIR.getDefaultState());
+      this.last = null;
+    }
+
+    private void end() {
+      // one update per scan, not per section
+      if (scanned > 0) {
+        sectionsScanned.addAndGet(scanned);
+      }
+      if (pruned > 0) {
+        sectionsPruned.addAndGet(pruned);
+      }
+      this.scanned = 0;
+      this.pruned = 0;
+      this.world = null;
+      this.candidates = null;
+      this.last = null;
+      this.sections.clear();
+    }
+
+    /**
+     * @param p a position
+     * @return the block state, or null if the position should be skipped
+     **/
+    @Nullable
+    private BlockState getBlockState(final BlockPos p) {
+      if (p.getY() < 0 || p.getY() > 255) {
+        return null;
+      }
+      final long key = SectionPos.asLong(p.getX() >> 4, p.getY() >> 4, p.getZ() >> 4);
+      if (last == null || key != lastKey) {
+        last = sections.get(key);
+        lastKey = key;
+        if (last == null) {
+          last = checkSection(p);
+          sections.put(key, last);
+        }
+      }
+      if (last == PRUNED) {
+        return null;
+      }
+      if (last == AIR) {
+        return Blocks.AIR.getDefaultState();
+      }
+      return ((ChunkSection) last).getBlockState(p.getX() & 15, p.getY() & 15, p.getZ() & 15);
+    }
+
+    private Object checkSection(final BlockPos p) {
+      final IChunk chunk = world.getChunk(p.getX() >> 4, p.getZ() >> 4, ChunkStatus.FULL, false);
+      if (chunk != null) {
+        final ChunkSection section = chunk.getSections()[p.getY() >> 4];
+        if (ChunkSection.isEmpty(section)) {
+          if (airIsCandidate) {
+            scanned++;
+            return AIR;
+          }
+        } else if (mayContain(section, candidates)) {
+          scanned++;
+          return section;
+        }
+      }
+      pruned++;
+      return PRUNED;
+    }
+  }
+}
@@ -0,0 +1,360 @@
+package com.mcmoddev.golems.util.area;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import com.mcmoddev.golems.main.ExtraGolems;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.BitArray;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorldReader;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
+
+/**
+ * Finds positions for golem area effects on worker threads. On the server
+ * thread, each chunk section in the area that may contain a candidate state is
+ * copied in the same compact form that is sent to clients (a palette and an
+ * array of packed indices). A worker then reads blocks from the copies only.
+ * <p>
+ * The blocks may change before the golem collects the result, usually a tick
+ * later, including the golem's own edits from the tick before. The result is
+ * not checked against the world again. Every edit goes through the
+ * {@link com.mcmoddev.golems.util.GolemBlockEditQueue}, which gives the edit
+ * function the block's state when the edit is applied, so a position that no
+ * longer holds a candidate is simply left alone.
+ * <p>
+ * This is off unless the "area_scan_threads" config value is more than zero.
+ **/
+public final class AsyncAreaScanner {
+
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  /** The worker pool, or null when scans should run on the server thread **/
+  private static volatile ExecutorService executor;
+  private static int threads;
+
+  private AsyncAreaScanner() {
+    //
+  }
+
+  /**
+   * Work done on a worker thread using copied chunk sections.
+   **/
+  @FunctionalInterface
+  public interface IScanTask {
+    /**
+     * @param snapshot the copied blocks around the center
+     * @param out      a list to fill with packed positions
+     **/
+    void run(final Snapshot snapshot, final LongArrayList out);
+  }
+
+  /**
+   * Changes the number of worker threads. Scans that were already submitted
+   * still finish.
+   *
+   * @param count the number of threads, or 0 to turn off worker threads
+   **/
+  public static synchronized void setThreads(final int count) {
+    final int n = Math.max(0, count);
+    if (n == threads) {
+      return;
+    }
+    final ExecutorService old = executor;
+    executor = n > 0 ? Executors.newFixedThreadPool(n, r -> {
+      final Thread thread = new Thread(r, "Extra Golems Area Scan #" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+    threads = n;
+    if (old != null) {
+      old.shutdown();
+    }
+    ExtraGolems.LOGGER.debug("Using %s thread(s) for golem area scans", n);
+  }
+
+  /** @return true if scans can be submitted to worker threads **/
+  public static boolean isEnabled() {
+    return executor != null;
+  }
+
+  /**
+   * Copies the sections around the center, then visits every position in the
+   * table on a worker thread.
+   *
+   * @param world      the world. Only call this on the server thread.
+   * @param center     the center of the area
+   * @param table      the positions to visit
+   * @param candidates the states to find. This is also called on the worker
+   *                   thread, so it must not change anything.
+   * @param skip       positions to leave out, relative to the center. May be
+   *                   null. This is called on the worker thread.
+   * @return the pending result
+   **/
+  public static PendingScan submit(final IWorldReader world, final BlockPos center, final OffsetTable table,
+      final Predicate<BlockState> candidates, @Nullable final AreaScanner.IShape skip) {
+    final int x = center.getX();
+    final int y = center.getY();
+    final int z = center.getZ();
+    return submit(world, center, table.getRadiusX(), table.getRadiusY(), table.getRadiusZ(), candidates, (snapshot, out) -> {
+      for (int i = 0, l = table.size(); i < l; i++) {
+        final long offset = table.get(i);
+        final int dx = BlockPos.unpackX(offset);
+        final int dy = BlockPos.unpackY(offset);
+        final int dz = BlockPos.unpackZ(offset);
+        if (skip == null || !skip.contains(dx, dy, dz)) {
+          final BlockState state = snapshot.getBlockState(x + dx, y + dy, z + dz);
+          if (state != null && candidates.test(state)) {
+            out.add(BlockPos.pack(x + dx, y + dy, z + dz));
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Copies the sections around the center, then runs the task on a worker
+   * thread.
+   *
+   * @param world      the world. Only call this on the server thread.
+   * @param center     the center of the area
+   * @param rx         the largest x offset the task will read
+   * @param ry         the largest y offset the task will read
+   * @param rz         the largest z offset the task will read
+   * @param candidates the states the task needs to see. Sections without any
+   *                   of these are not copied.
+   * @param task       the work to do on the worker thread
+   * @return the pending result
+   **/
+  public static PendingScan submit(final IWorldReader world, final BlockPos center, final int rx, final int ry, final int rz,
+      final Predicate<BlockState> candidates, final IScanTask task) {
+    final Snapshot snapshot = new Snapshot(world, center, rx, ry, rz, candidates);
+    final ExecutorService pool = executor;
+    CompletableFuture<LongArrayList> future;
+    try {
+      if (pool == null) {
+        throw new RejectedExecutionException("No worker threads");
+      }
+      future = CompletableFuture.supplyAsync(() -> {
+        final LongArrayList out = new LongArrayList();
+        task.run(snapshot, out);
+        return out;
+      }, pool);
+    } catch (final RejectedExecutionException e) {
+      // the pool was turned off after this was checked, so do the work here
+      final LongArrayList out = new LongArrayList();
+      task.run(snapshot, out);
+      future = CompletableFuture.completedFuture(out);
+    }
+    return new PendingScan(snapshot, future);
+  }
+
+  /**
+   * @param section a chunk section
+   * @param buffer  a buffer to write to
+   * @return the buffer, holding the section's palette and packed indices
+   **/
+  private static PacketBuffer write(final ChunkSection section, final PacketBuffer buffer) {
+    buffer.clear();
+    section.getData().write(buffer);
+    return buffer;
+  }
+
+  /**
+   * The result of a scan that may still be running.
+   **/
+  public static final class PendingScan {
+    private final Snapshot snapshot;
+    private final CompletableFuture<LongArrayList> future;
+
+    private PendingScan(final Snapshot lSnapshot, final CompletableFuture<LongArrayList> lFuture) {
+      this.snapshot = lSnapshot;
+      this.future = lFuture;
+    }
+
+    /** @return the center that was passed when the scan was submitted **/
+    public BlockPos getCenter() {
+      return snapshot.center;
+    }
+
+    /** @return true if the worker has finished **/
+    public boolean isDone() {
+      return future.isDone();
+    }
+
+    /**
+     * Adds the positions that the worker found. Only call this on the server
+     * thread, after {@link #isDone()} returns true.
+     *
+     * @param out a list to add the packed positions to
+     * @return true if the worker finished, or false if it failed and nothing
+     *         was added
+     **/
+    public boolean collect(final LongArrayList out) {
+      final LongArrayList result;
+      try {
+        result = future.getNow(null);
+      } catch (final CompletionException e) {
+        ExtraGolems.LOGGER.error("Golem area scan failed: %s", e.getCause());
+        return false;
+      }
+      if (result == null) {
+        return false;
+      }
+      out.addAll(result);
+      return true;
+    }
+  }
+
+  /**
+   * Copies of the chunk sections around a center position. Sections without
+   * any candidate states, and sections in chunks that are not loaded, are not
+   * copied, and reading from them returns null.
+   **/
+  public static final class Snapshot {
+    /** Stands in for an empty section when air is a candidate **/
+    private static final byte[] EMPTY = new byte[0];
+
+    private final BlockPos center;
+    /** The bytes of each copied section, by {@link SectionPos#asLong} **/
+    private final Long2ObjectOpenHashMap<byte[]> copies = new Long2ObjectOpenHashMap<>();
+    /** Sections that have been decoded by the worker **/
+    private final Long2ObjectOpenHashMap<SectionData> decoded = new Long2ObjectOpenHashMap<>();
+    private long lastKey;
+    private SectionData last;
+
+    private Snapshot(final IWorldReader world, final BlockPos lCenter, final int rx, final int ry, final int rz,
+        final Predicate<BlockState> candidates) {
+      this.center = lCenter.toImmutable();
+      final boolean airIsCandidate = candidates.test(Blocks.AIR.getDefaultState());
+      final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+      try {
+        for (int cx = (center.getX() - rx) >> 4, maxX = (center.getX() + rx) >> 4; cx <= maxX; cx++) {
+          for (int cz = (center.getZ() - rz) >> 4, maxZ = (center.getZ() + rz) >> 4; cz <= maxZ; cz++) {
+            final IChunk chunk = world.getChunk(cx, cz, ChunkStatus.FULL, false);
+            if (chunk == null) {
+              continue;
+            }
+            final ChunkSection[] sections = chunk.getSections();
+            for (int cy = Math.max(0, (center.getY() - ry) >> 4), maxY = Math.min(15, (center.getY() + ry) >> 4); cy <= maxY; cy++) {
+              final ChunkSection section = sections[cy];
+              final long key = SectionPos.asLong(cx, cy, cz);
+              if (ChunkSection.isEmpty(section)) {
+                if (airIsCandidate) {
+                  copies.put(key, EMPTY);
+                }
+              } else if (section.func_235962_a_(candidates)) { // hasAny
+                copies.put(key, ByteBufUtil.getBytes(write(section, buffer)));
+              }
+            }
+          }
+        }
+      } finally {
+        buffer.release();
+      }
+    }
+
+    /** @return the center of the area **/
+    public BlockPos getCenter() {
+      return center;
+    }
+
+    /**
+     * @param x the x position
+     * @param y the y position
+     * @param z the z position
+     * @return the copied state, or null if the section was not copied
+     **/
+    @Nullable
+    public BlockState getBlockState(final int x, final int y, final int z) {
+      if (y < 0 || y > 255) {
+        return null;
+      }
+      final long key = SectionPos.asLong(x >> 4, y >> 4, z >> 4);
+      if (last == null || key != lastKey) {
+        last = decoded.get(key);
+        if (last == null) {
+          final byte[] bytes = copies.get(key);
+          last = bytes == null ? SectionData.MISSING : new SectionData(bytes);
+          decoded.put(key, last);
+        }
+        lastKey = key;
+      }
+      return last.get(x & 15, y & 15, z & 15);
+    }
+  }
+
+  /**
+   * A copied section, decoded on the worker thread.
+   **/
+  private static final class SectionData {
+    private static final SectionData MISSING = new SectionData();
+
+    /** The palette, or null if the section uses global state IDs **/
+    private final BlockState[] palette;
+    /** The palette index of each block, or null if the section is missing or empty **/
+    private final BitArray storage;
+    private final boolean missing;
+
+    private SectionData() {
+      this.palette = null;
+      this.storage = null;
+      this.missing = true;
+    }
+
+    private SectionData(final byte[] bytes) {
+      this.missing = false;
+      if (bytes.length == 0) {
+        this.palette = null;
+        this.storage = null;
+        return;
+      }
+      // same layout as BlockStateContainer#write
+      final PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(bytes));
+      final int bits = buffer.readUnsignedByte();
+      if (bits <= 8) {
+        this.palette = new BlockState[buffer.readVarInt()];
+        for (int i = 0; i < palette.length; i++) {
+          palette[i] = Block.getStateById(buffer.readVarInt());
+        }
+      } else {
+        this.palette = null;
+      }
+      this.storage = new BitArray(bits, 4096, buffer.readLongArray(null));
+    }
+
+    @Nullable
+    private BlockState get(final int x, final int y, final int z) {
+      if (missing) {
+        return null;
+      }
+      if (storage == null) {
+        return Blocks.AIR.getDefaultState();
+      }
+      final int id = storage.getAt(y << 8 | z << 4 | x);
+      if (palette == null) {
+        return Block.getStateById(id);
+      }
+      return id < palette.length ? palette[id] : Blocks.AIR.getDefaultState();
+    }
+  }
+}
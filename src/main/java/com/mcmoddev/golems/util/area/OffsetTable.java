@@ -0,0 +1,108 @@
+package com.mcmoddev.golems.util.area;
+
+import java.util.BitSet;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Precomputed offsets of every position in a shape, such as the Ice Golem's
+ * disc or the Sponge Golem's sphere. The offsets are packed with
+ * {@link BlockPos#pack(int, int, int)} and shared between every golem that
+ * uses the same shape and radius, so scanning an area does not need to create
+ * any objects.
+ **/
+public final class OffsetTable implements AreaScanner.IShape {
+
+  /** Tables with a radius up to this are kept once built **/
+  private static final int MAX_CACHED_RADIUS = 64;
+  private static final OffsetTable[] DISCS = new OffsetTable[MAX_CACHED_RADIUS + 1];
+  private static final OffsetTable[] SPHERES = new OffsetTable[MAX_CACHED_RADIUS + 1];
+
+  private final int rx;
+  private final int ry;
+  private final int rz;
+  /** Packed offsets, in x, y, z order **/
+  private final long[] offsets;
+  /** Which offsets in the bounding box are in the shape **/
+  private final BitSet members;
+
+  private OffsetTable(final int lRx, final int lRy, final int lRz, final AreaScanner.IShape shape) {
+    this.rx = lRx;
+    this.ry = lRy;
+    this.rz = lRz;
+    this.members = new BitSet((2 * rx + 1) * (2 * ry + 1) * (2 * rz + 1));
+    final LongArrayList list = new LongArrayList();
+    for (int i = -rx; i <= rx; i++) {
+      for (int j = -ry; j <= ry; j++) {
+        for (int k = -rz; k <= rz; k++) {
+          if (shape.contains(i, j, k)) {
+            list.add(BlockPos.pack(i, j, k));
+            members.set(index(i, j, k));
+          }
+        }
+      }
+    }
+    this.offsets = list.toLongArray();
+  }
+
+  /**
+   * @param radius the radius of the disc
+   * @return a shared table for a disc that is three blocks tall
+   * @see AreaScanner#disc(int)
+   **/
+  public static OffsetTable disc(final int radius) {
+    return get(DISCS, radius, 1, AreaScanner.disc(radius));
+  }
+
+  /**
+   * @param radius the radius of the sphere
+   * @return a shared table for a sphere
+   * @see AreaScanner#sphere(int)
+   **/
+  public static OffsetTable sphere(final int radius) {
+    return get(SPHERES, radius, radius, AreaScanner.sphere(radius));
+  }
+
+  private static OffsetTable get(final OffsetTable[] cache, final int radius, final int ry, final AreaScanner.IShape shape) {
+    final int r = Math.max(0, radius);
+    if (r > MAX_CACHED_RADIUS) {
+      return new OffsetTable(r, Math.min(ry, r), r, shape);
+    }
+    // building the same table twice is harmless, so no lock is needed
+    OffsetTable table = cache[r];
+    if (table == null) {
+      table = new OffsetTable(r, Math.min(ry, r), r, shape);
+      cache[r] = table;
+    }
+    return table;
+  }
+
+  private int index(final int dx, final int dy, final int dz) {
+    return ((dx + rx) * (2 * ry + 1) + (dy + ry)) * (2 * rz + 1) + (dz + rz);
+  }
+
+  @Override
+  public boolean contains(final int dx, final int dy, final int dz) {
+    return dx >= -rx && dx <= rx && dy >= -ry && dy <= ry && dz >= -rz && dz <= rz && members.get(index(dx, dy, dz));
+  }
+
+  /** @return the number of positions in the shape **/
+  public int size() { return offsets.length; }
+
+  /**
+   * @param i an index less than {@link #size()}
+   * @return the packed offset at the index
+   **/
+  public long get(final int i) { return offsets[i]; }
+
+  /** @return the largest x offset **/
+  public int getRadiusX() { return rx; }
+
+  /** @return the largest y offset **/
+  public int getRadiusY() { return ry; }
+
+  /** @return the largest z offset **/
+  public int getRadiusZ() { return rz; }
+}
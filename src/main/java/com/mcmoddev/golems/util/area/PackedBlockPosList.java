@@ -0,0 +1,120 @@
+package com.mcmoddev.golems.util.area;
+
+import java.util.AbstractList;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * A list of block positions that stores each position as a packed
+ * {@code long}. Golem goals can read and fill the packed list directly, and
+ * reuse it every time they run, while event listeners still see an ordinary
+ * {@code List<BlockPos>}. Reading through the list view creates a new
+ * {@code BlockPos} for each position, so code that runs often should use
+ * {@link #getPacked()} instead.
+ **/
+public final class PackedBlockPosList extends AbstractList<BlockPos> {
+
+  private final LongArrayList positions;
+  /** Index of each position, built the first time a position is removed **/
+  private Long2IntOpenHashMap indices;
+  /** Increased each time the list is changed through this class **/
+  private int version;
+  private int indexVersion;
+
+  public PackedBlockPosList() {
+    this(new LongArrayList());
+  }
+
+  /**
+   * @param lPositions the packed positions to use, which are not copied
+   **/
+  public PackedBlockPosList(final LongArrayList lPositions) {
+    this.positions = lPositions;
+  }
+
+  /**
+   * Changes to the packed list are seen by this list. Do not change the packed
+   * list while also calling {@link #removeUnordered(BlockPos)}.
+   *
+   * @return the packed positions
+   **/
+  public LongArrayList getPacked() {
+    return positions;
+  }
+
+  @Override
+  public BlockPos get(final int index) {
+    return BlockPos.fromLong(positions.getLong(index));
+  }
+
+  @Override
+  public BlockPos set(final int index, final BlockPos pos) {
+    version++;
+    return BlockPos.fromLong(positions.set(index, pos.toLong()));
+  }
+
+  @Override
+  public void add(final int index, final BlockPos pos) {
+    version++;
+    modCount++;
+    positions.add(index, pos.toLong());
+  }
+
+  @Override
+  public BlockPos remove(final int index) {
+    version++;
+    modCount++;
+    return BlockPos.fromLong(positions.removeLong(index));
+  }
+
+  @Override
+  public void clear() {
+    version++;
+    modCount++;
+    positions.clear();
+  }
+
+  @Override
+  public int size() {
+    return positions.size();
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return o instanceof BlockPos && positions.contains(((BlockPos) o).toLong());
+  }
+
+  /**
+   * Removes a position in constant time by moving the last position into its
+   * place, so the order of the list is not kept.
+   *
+   * @param pos the position to remove
+   * @return true if the position was in the list
+   **/
+  public boolean removeUnordered(final BlockPos pos) {
+    // build the index again if the list was changed some other way
+    if (indices == null || indexVersion != version || indices.size() != positions.size()) {
+      indices = new Long2IntOpenHashMap(positions.size());
+      indices.defaultReturnValue(-1);
+      for (int i = 0, l = positions.size(); i < l; i++) {
+        indices.put(positions.getLong(i), i);
+      }
+    }
+    final int index = indices.remove(pos.toLong());
+    if (index < 0) {
+      return false;
+    }
+    final int last = positions.size() - 1;
+    final long moved = positions.removeLong(last);
+    if (index != last) {
+      positions.set(index, moved);
+      indices.put(moved, index);
+    }
+    modCount++;
+    indexVersion = ++version;
+    return true;
+  }
+}
@@ -1,17 +1,23 @@
 package com.mcmoddev.golems.util.config;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.main.ExtraGolems;
 import com.mcmoddev.golems.util.GolemContainer;
 
+import net.minecraft.entity.Entity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.config.ModConfig;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
 /**
  * Taken in part from betteranimalsplus (who probably took it in part from
@@ -37,44 +43,111 @@ public class ExtraGolemsConfig {
     }
   }
 
+  @SubscribeEvent
+  public static void onReload(final ModConfig.Reloading configEvent) {
+    if (configEvent.getConfig().getSpec() == COMMON_CONFIG) {
+      final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+      if (null == server) {
+        // no golems are loaded, so there is nothing to update
+        GOLEM_CONFIG.loadData();
+        return;
+      }
+      // this is called from the file watcher thread, so make changes on the server thread
+      server.execute(() -> pushChanges(server, GOLEM_CONFIG.reloadData(), "config"));
+    }
+  }
+
+  /**
+   * Passes the config or golem data changes to every loaded golem in a single
+   * pass. Only call this on the server thread.
+   *
+   * @param server  the server
+   * @param changes the changes for each golem that has any
+   * @param source  what was reloaded, for logging
+   **/
+  public static void pushChanges(final MinecraftServer server, final Map<GolemContainer, GolemConfigDelta> changes, final String source) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    int updated = 0;
+    for (final ServerWorld world : server.getWorlds()) {
+      final Iterator<Entity> entities = world.getEntities().iterator();
+      while (entities.hasNext()) {
+        final Entity entity = entities.next();
+        if (entity instanceof GolemBase) {
+          final GolemConfigDelta delta = changes.get(((GolemBase) entity).getGolemContainer());
+          if (delta != null) {
+            ((GolemBase) entity).onConfigChanged(delta);
+            updated++;
+          }
+        }
+      }
+    }
+    ExtraGolems.LOGGER.info("Reloaded %s for %d golem types and updated %d loaded golems", source, changes.size(), updated);
+  }
+
+  /**
+   * @return the general config values, which are safe to read every tick or
+   *         every frame
+   **/
+  public static GolemGlobalSettings settings() {
+    return GOLEM_CONFIG != null ? GOLEM_CONFIG.getSettings() : GolemGlobalSettings.DEFAULT;
+  }
+
   public static boolean bedrockGolemCreativeOnly() {
-    return GOLEM_CONFIG != null && GOLEM_CONFIG.bedrockGolemCreativeOnly.get();
+    return settings().bedrockGolemCreativeOnly();
   }
 
   public static boolean pumpkinBuildsGolems() {
-    return GOLEM_CONFIG != null && GOLEM_CONFIG.pumpkinBuildsGolem.get();
+    return settings().pumpkinBuildsGolems();
   }
 
   public static boolean enableFriendlyFire() {
-    return GOLEM_CONFIG != null && GOLEM_CONFIG.enableFriendlyFire.get();
+    return settings().enableFriendlyFire();
   }
 
   public static boolean enableTextureInteract() {
-    return GOLEM_CONFIG != null && GOLEM_CONFIG.enableTextureInteract.get();
+    return settings().enableTextureInteract();
   }
 
   public static boolean enableUseSpellItem() {
-    return GOLEM_CONFIG != null && GOLEM_CONFIG.enableUseItemSpell.get();
+    return settings().enableUseSpellItem();
   }
 
   public static boolean enableHealGolems() {
-    return GOLEM_CONFIG != null && GOLEM_CONFIG.enableHealGolems.get();
+    return settings().enableHealGolems();
   }
 
   public static int villagerSummonChance() {
-    return GOLEM_CONFIG != null ? GOLEM_CONFIG.villagerGolemSpawnChance.get() : 0;
+    return settings().villagerSummonChance();
+  }
+
+  public static int assemblerBuildInterval() {
+    return settings().assemblerBuildInterval();
+  }
+
+  public static int areaScanThreads() {
+    return settings().areaScanThreads();
+  }
+
+  public static int blockEditsPerTick() {
+    return settings().blockEditsPerTick();
   }
 
   public static List<GolemContainer> getVillagerGolems() {
-    return GOLEM_CONFIG != null ? GOLEM_CONFIG.loadVillagerGolemList() : new ArrayList<>();
+    return getVillagerGolemTable().getOptions();
+  }
+
+  public static WeightedGolemTable getVillagerGolemTable() {
+    return settings().getVillagerGolems();
   }
   
   public static boolean aprilFirst() {
-    return GOLEM_CONFIG != null && GOLEM_CONFIG.aprilFirst();
+    return settings().enableHolidays() && HolidayCalendar.isAprilFirst();
   }
   
   public static boolean halloween() {
-    return GOLEM_CONFIG != null && GOLEM_CONFIG.halloween();
+    return settings().enableHolidays() && HolidayCalendar.isHalloween();
   }
   
 }
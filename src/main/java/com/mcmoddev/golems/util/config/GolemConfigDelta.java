@@ -0,0 +1,127 @@
+package com.mcmoddev.golems.util.config;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableSet;
+import com.mcmoddev.golems.util.GolemContainer;
+import com.mcmoddev.golems.util.config.special.GolemSpecialSnapshot;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * The settings of a single golem that changed when the config file or the
+ * golem data packs were reloaded. Passed to each loaded golem so that it only
+ * needs to update the values that actually changed.
+ *
+ * @see com.mcmoddev.golems.entity.base.GolemBase#onConfigChanged(GolemConfigDelta)
+ **/
+public final class GolemConfigDelta {
+
+  private final boolean health;
+  private final boolean attack;
+  private final boolean enabled;
+  private final boolean swimMode;
+  private final boolean lightLevel;
+  private final boolean powerLevel;
+  private final ImmutableSet<String> specials;
+
+  private GolemConfigDelta(final boolean lHealth, final boolean lAttack, final boolean lEnabled, final boolean lSwimMode,
+      final boolean lLightLevel, final boolean lPowerLevel, final ImmutableSet<String> lSpecials) {
+    this.health = lHealth;
+    this.attack = lAttack;
+    this.enabled = lEnabled;
+    this.swimMode = lSwimMode;
+    this.lightLevel = lLightLevel;
+    this.powerLevel = lPowerLevel;
+    this.specials = lSpecials;
+  }
+
+  /** @return true if nothing changed **/
+  public boolean isEmpty() { return !health && !attack && !enabled && !swimMode && !lightLevel && !powerLevel && specials.isEmpty(); }
+
+  /** @return true if the golem's max health changed **/
+  public boolean healthChanged() { return health; }
+
+  /** @return true if the golem's attack damage changed **/
+  public boolean attackChanged() { return attack; }
+
+  /** @return true if the golem was enabled or disabled **/
+  public boolean enabledChanged() { return enabled; }
+
+  /** @return true if the golem's swim mode was changed by a data pack **/
+  public boolean swimModeChanged() { return swimMode; }
+
+  /** @return true if the golem's light level was changed by a data pack **/
+  public boolean lightLevelChanged() { return lightLevel; }
+
+  /** @return true if the golem's power level was changed by a data pack **/
+  public boolean powerLevelChanged() { return powerLevel; }
+
+  /** @return true if any special config values changed **/
+  public boolean hasSpecialChanges() { return !specials.isEmpty(); }
+
+  /**
+   * @param name the name of a special config value
+   * @return true if the special config value changed
+   **/
+  public boolean specialChanged(final String name) { return specials.contains(name); }
+
+  /** @return the names of every special config value that changed **/
+  public ImmutableSet<String> getChangedSpecials() { return specials; }
+
+  /**
+   * @param containers the golems to check
+   * @param reload     reloads the settings of the golems
+   * @return the changes for each golem that has any
+   **/
+  public static Map<GolemContainer, GolemConfigDelta> compare(final Collection<GolemContainer> containers, final Runnable reload) {
+    final Map<GolemContainer, State> before = new HashMap<>();
+    for (final GolemContainer c : containers) {
+      before.put(c, new State(c));
+    }
+    reload.run();
+    final Map<GolemContainer, GolemConfigDelta> changes = new Reference2ObjectOpenHashMap<>();
+    before.forEach((c, state) -> {
+      final GolemConfigDelta delta = state.compare(c);
+      if (!delta.isEmpty()) {
+        changes.put(c, delta);
+      }
+    });
+    return changes;
+  }
+
+  /**
+   * The settings of a golem before they are reloaded.
+   **/
+  private static final class State {
+    private final double health;
+    private final double attack;
+    private final boolean enabled;
+    private final GolemContainer.SwimMode swimMode;
+    private final int lightLevel;
+    private final int powerLevel;
+    private final GolemSpecialSnapshot specials;
+
+    private State(final GolemContainer container) {
+      this.health = container.getHealth();
+      this.attack = container.getAttack();
+      this.enabled = container.isEnabled();
+      this.swimMode = container.getSwimMode();
+      this.lightLevel = container.getLightLevel();
+      this.powerLevel = container.getPowerLevel();
+      this.specials = container.getSpecials();
+    }
+
+    /**
+     * @param container the same golem, after its settings were reloaded
+     * @return the values that changed since this State was made
+     **/
+    private GolemConfigDelta compare(final GolemContainer container) {
+      return new GolemConfigDelta(health != container.getHealth(), attack != container.getAttack(),
+          enabled != container.isEnabled(), swimMode != container.getSwimMode(), lightLevel != container.getLightLevel(),
+          powerLevel != container.getPowerLevel(), container.getSpecials().getChanges(specials));
+    }
+  }
+}
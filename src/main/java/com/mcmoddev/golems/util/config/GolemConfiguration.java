@@ -1,7 +1,5 @@
 package com.mcmoddev.golems.util.config;
 
-import java.time.LocalDateTime;
-import java.time.Month;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -13,11 +11,12 @@ import com.mcmoddev.golems.main.ExtraGolems;
 import com.mcmoddev.golems.util.GolemContainer;
 import com.mcmoddev.golems.util.GolemNames;
 import com.mcmoddev.golems.util.GolemRegistrar;
+import com.mcmoddev.golems.util.area.AsyncAreaScanner;
 import com.mcmoddev.golems.util.config.special.GolemSpecialContainer;
 import com.mcmoddev.golems.util.config.special.GolemSpecialSection;
+import com.mcmoddev.golems.util.config.special.GolemSpecialSnapshot;
 
 import net.minecraft.entity.ai.attributes.GlobalEntityTypeAttributes;
-import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.common.ForgeConfigSpec.ConfigValue;
 
@@ -37,6 +36,9 @@ public class GolemConfiguration {
   protected final ForgeConfigSpec.BooleanValue enableHealGolems;
   protected final ForgeConfigSpec.BooleanValue holidayTweaks;
   protected final ForgeConfigSpec.IntValue villagerGolemSpawnChance;
+  protected final ForgeConfigSpec.IntValue assemblerBuildInterval;
+  protected final ForgeConfigSpec.IntValue areaScanThreads;
+  protected final ForgeConfigSpec.IntValue blockEditsPerTick;
   private final ConfigValue<List<? extends String>> villagerGolemSpawns;
   private static final String[] defaultVillagerGolemSpawns = { GolemNames.BOOKSHELF_GOLEM, GolemNames.CLAY_GOLEM,
       GolemNames.COAL_GOLEM, GolemNames.CRAFTING_GOLEM, GolemNames.GLASS_GOLEM, GolemNames.GLOWSTONE_GOLEM, GolemNames.LEAF_GOLEM,
@@ -44,9 +46,8 @@ public class GolemConfiguration {
       GolemNames.REDSANDSTONE_GOLEM, GolemNames.SANDSTONE_GOLEM, GolemNames.STAINEDGLASS_GOLEM,
       GolemNames.STAINEDTERRACOTTA_GOLEM, GolemNames.STRAW_GOLEM, GolemNames.TERRACOTTA_GOLEM, GolemNames.WOODEN_GOLEM,
       GolemNames.WOOL_GOLEM };
-  
-  private boolean aprilFirst;
-  private boolean halloween;
+  /** The general config values, copied each time the config is loaded **/
+  private volatile GolemGlobalSettings settings = GolemGlobalSettings.DEFAULT;
 
   public GolemConfiguration(ForgeConfigSpec.Builder builder) {
     // Global values
@@ -65,13 +66,23 @@ public class GolemConfiguration {
     this.villagerGolemSpawnChance = builder.comment("Percent chance for a villager to successfully summon an Extra Golems golem")
         .defineInRange("villager_summon_chance", 60, 0, 100);
     this.enableHealGolems = builder.comment("When enabled, giving blocks and items to golems can restore health").define("heal_golems", true);
-    this.villagerGolemSpawns = builder.comment("Golems that can be summoned by villagers", "(Duplicate entries increase chances)")
+    this.assemblerBuildInterval = builder.comment("Number of ticks a Golem Assembler waits after each attempt to build a golem")
+        .defineInRange("assembler_build_interval", 20, 1, 1200);
+    this.areaScanThreads = builder.comment("Number of worker threads that find blocks for Ice and Sponge Golems",
+        "(0 finds them on the server thread instead)")
+        .defineInRange("area_scan_threads", 0, 0, 8);
+    this.blockEditsPerTick = builder.comment("Most blocks that golems can change in each world each tick",
+        "(The rest are changed over the next few ticks, in order)")
+        .defineInRange("block_edits_per_tick", 1024, 1, 65536);
+    this.villagerGolemSpawns = builder.comment("Golems that can be summoned by villagers",
+        "Add '*weight' after a name to change its chances, for example \"golems:golem_clay*2.5\"",
+        "(Duplicate entries increase chances)")
         .defineList("villager_summon_golems", initVillagerGolemList(defaultVillagerGolemSpawns), o -> o instanceof String);
 
     builder.pop();
 
     // Categories for each Golem and their specials
-    for (GolemContainer c : GolemRegistrar.golemList.values()) {
+    for (GolemContainer c : GolemRegistrar.getContainers()) {
       builder.push(c.getName());
       sections.put(c, new GolemConfigurationSection(c, builder));
       builder.push("specials"); // golem.specials
@@ -87,6 +98,7 @@ public class GolemConfiguration {
    * Call on world load. Refills all containers with config values
    */
   public void loadData() {
+    final int version = GolemSpecialSnapshot.getCurrentVersion() + 1;
     for (Entry<GolemContainer, GolemConfigurationSection> e : this.sections.entrySet()) {
       GolemContainer c = e.getKey();
       GolemConfigurationSection section = e.getValue();
@@ -96,16 +108,30 @@ public class GolemConfiguration {
       c.setEnabled(section.enabled.get());
       // update specials based on config
       for (GolemSpecialContainer specialC : c.getSpecialContainers()) {
-        specialC.value = specials.get(specialC).value;
+        specialC.value = specials.get(specialC).value.get();
       }
+      c.setSpecials(GolemSpecialSnapshot.compile(c.getSpecialContainers(), specialC -> specialC.value, version));
 	  
       // moved from ProxyCommon to here to fix issue #56
       GlobalEntityTypeAttributes.put(c.getEntityType(), c.getAttributeSupplier().get().create());
     }
+    // tell golems to pick up the new specials
+    GolemSpecialSnapshot.nextVersion();
+    // swap in the new general values all at once
+    settings = new GolemGlobalSettings(this, WeightedGolemTable.compile(villagerGolemSpawns.get()));
     // also update the holiday configs
-    final LocalDateTime now = LocalDateTime.now();
-    aprilFirst = (now.getMonth() == Month.MARCH && now.getDayOfMonth() >= 30) || (now.getMonth() == Month.APRIL && now.getDayOfMonth() <= 2);
-    halloween = (now.getMonth() == Month.OCTOBER && now.getDayOfMonth() >= 28) || (now.getMonth() == Month.NOVEMBER && now.getDayOfMonth() <= 4);
+    HolidayCalendar.refresh();
+    AsyncAreaScanner.setThreads(settings.areaScanThreads());
+  }
+
+  /**
+   * Call when the config file is changed while the game is running. Loads the
+   * new values like {@link #loadData()} and compares them to the old values.
+   *
+   * @return the changes for each golem that has any
+   */
+  public Map<GolemContainer, GolemConfigDelta> reloadData() {
+    return GolemConfigDelta.compare(this.sections.keySet(), this::loadData);
   }
 
   private static List<String> initVillagerGolemList(final String[] names) {
@@ -116,24 +142,8 @@ public class GolemConfiguration {
     return list;
   }
 
-  public List<GolemContainer> loadVillagerGolemList() {
-    final List<GolemContainer> list = new ArrayList<>();
-    for (final String s : villagerGolemSpawns.get()) {
-      if (s != null && !s.isEmpty()) {
-        final GolemContainer container = GolemRegistrar.getContainer(new ResourceLocation(s));
-        if (container != null) {
-          list.add(container);
-        }
-      }
-    }
-    return list;
-  }
-  
-  public boolean aprilFirst() {
-    return holidayTweaks.get() && aprilFirst;
-  }
-  
-  public boolean halloween() {
-    return holidayTweaks.get() && halloween;
+  /** @return the general config values, as of the last config load **/
+  public GolemGlobalSettings getSettings() {
+    return settings;
   }
 }
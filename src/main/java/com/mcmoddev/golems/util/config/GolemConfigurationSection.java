@@ -22,7 +22,9 @@ public class GolemConfigurationSection {
 
   public void loadConfig(ForgeConfigSpec.Builder builder, GolemContainer container) {
     enabled = builder.comment("Disables in-world building of the golem.").worldRestart().define("enabled", true);
-    health = builder.worldRestart().defineInRange("health", container.getHealth(), 1, 999);
-    attack = builder.worldRestart().defineInRange("attack", container.getAttack(), 1, 999);
+    health = builder.comment("Max health. A golem data pack that sets health takes precedence over this value")
+        .defineInRange("health", container.getHealth(), 1, 999);
+    attack = builder.comment("Attack damage. A golem data pack that sets attack takes precedence over this value")
+        .defineInRange("attack", container.getAttack(), 1, 999);
   }
 }
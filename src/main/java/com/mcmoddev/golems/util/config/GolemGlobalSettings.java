@@ -0,0 +1,82 @@
+package com.mcmoddev.golems.util.config;
+
+/**
+ * Immutable copy of the "general" config values. A new instance is made each
+ * time the config is loaded and swapped in all at once, so that the combat,
+ * tick, and render code can read plain fields instead of going through the
+ * config spec every time.
+ *
+ * @see ExtraGolemsConfig#settings()
+ **/
+public final class GolemGlobalSettings {
+
+  /** Used until the config is loaded **/
+  public static final GolemGlobalSettings DEFAULT = new GolemGlobalSettings();
+
+  private final boolean bedrockGolemCreativeOnly;
+  private final boolean pumpkinBuildsGolems;
+  private final boolean friendlyFire;
+  private final boolean textureInteract;
+  private final boolean useSpellItem;
+  private final boolean healGolems;
+  private final boolean holidays;
+  private final int villagerSummonChance;
+  private final int assemblerBuildInterval;
+  private final int areaScanThreads;
+  private final int blockEditsPerTick;
+  private final WeightedGolemTable villagerGolems;
+
+  private GolemGlobalSettings() {
+    this.bedrockGolemCreativeOnly = false;
+    this.pumpkinBuildsGolems = false;
+    this.friendlyFire = false;
+    this.textureInteract = false;
+    this.useSpellItem = false;
+    this.healGolems = false;
+    this.holidays = false;
+    this.villagerSummonChance = 0;
+    this.assemblerBuildInterval = 20;
+    this.areaScanThreads = 0;
+    this.blockEditsPerTick = 1024;
+    this.villagerGolems = WeightedGolemTable.EMPTY;
+  }
+
+  GolemGlobalSettings(final GolemConfiguration config, final WeightedGolemTable lVillagerGolems) {
+    this.bedrockGolemCreativeOnly = config.bedrockGolemCreativeOnly.get();
+    this.pumpkinBuildsGolems = config.pumpkinBuildsGolem.get();
+    this.friendlyFire = config.enableFriendlyFire.get();
+    this.textureInteract = config.enableTextureInteract.get();
+    this.useSpellItem = config.enableUseItemSpell.get();
+    this.healGolems = config.enableHealGolems.get();
+    this.holidays = config.holidayTweaks.get();
+    this.villagerSummonChance = config.villagerGolemSpawnChance.get();
+    this.assemblerBuildInterval = config.assemblerBuildInterval.get();
+    this.areaScanThreads = config.areaScanThreads.get();
+    this.blockEditsPerTick = config.blockEditsPerTick.get();
+    this.villagerGolems = lVillagerGolems;
+  }
+
+  public boolean bedrockGolemCreativeOnly() { return bedrockGolemCreativeOnly; }
+
+  public boolean pumpkinBuildsGolems() { return pumpkinBuildsGolems; }
+
+  public boolean enableFriendlyFire() { return friendlyFire; }
+
+  public boolean enableTextureInteract() { return textureInteract; }
+
+  public boolean enableUseSpellItem() { return useSpellItem; }
+
+  public boolean enableHealGolems() { return healGolems; }
+
+  public boolean enableHolidays() { return holidays; }
+
+  public int villagerSummonChance() { return villagerSummonChance; }
+
+  public int assemblerBuildInterval() { return assemblerBuildInterval; }
+
+  public int areaScanThreads() { return areaScanThreads; }
+
+  public int blockEditsPerTick() { return blockEditsPerTick; }
+
+  public WeightedGolemTable getVillagerGolems() { return villagerGolems; }
+}
@@ -0,0 +1,47 @@
+package com.mcmoddev.golems.util.config;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the date at most once per minute, so that the holiday checks made by
+ * the renderer every frame only need to read two fields.
+ **/
+public final class HolidayCalendar {
+
+  private static final long CHECK_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+  private static volatile HolidayCalendar current = new HolidayCalendar(LocalDate.now(), System.currentTimeMillis());
+
+  private final boolean aprilFirst;
+  private final boolean halloween;
+  /** The time when the date should be checked again **/
+  private final long expires;
+
+  private HolidayCalendar(final LocalDate now, final long millis) {
+    this.aprilFirst = (now.getMonth() == Month.MARCH && now.getDayOfMonth() >= 30) || (now.getMonth() == Month.APRIL && now.getDayOfMonth() <= 2);
+    this.halloween = (now.getMonth() == Month.OCTOBER && now.getDayOfMonth() >= 28) || (now.getMonth() == Month.NOVEMBER && now.getDayOfMonth() <= 4);
+    this.expires = millis + CHECK_INTERVAL;
+  }
+
+  /** @return the holidays for today, checking the date again if needed **/
+  private static HolidayCalendar get() {
+    HolidayCalendar calendar = current;
+    final long millis = System.currentTimeMillis();
+    if (millis >= calendar.expires) {
+      calendar = new HolidayCalendar(LocalDate.now(), millis);
+      current = calendar;
+    }
+    return calendar;
+  }
+
+  /** Checks the date again right away, such as when the config is loaded **/
+  public static void refresh() {
+    current = new HolidayCalendar(LocalDate.now(), System.currentTimeMillis());
+  }
+
+  public static boolean isAprilFirst() { return get().aprilFirst; }
+
+  public static boolean isHalloween() { return get().halloween; }
+}
@@ -0,0 +1,150 @@
+package com.mcmoddev.golems.util.config;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableList;
+import com.mcmoddev.golems.main.ExtraGolems;
+import com.mcmoddev.golems.util.GolemContainer;
+import com.mcmoddev.golems.util.GolemRegistrar;
+
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.ResourceLocationException;
+
+/**
+ * Immutable list of golems with a weight for each one, compiled from config
+ * entries such as {@code "golems:golem_clay"} or {@code "golems:golem_clay*3"}.
+ * Duplicate entries add their weights together. Sampling uses an alias table,
+ * so picking a golem takes the same time no matter how many there are.
+ **/
+public final class WeightedGolemTable {
+
+  public static final WeightedGolemTable EMPTY = new WeightedGolemTable(new GolemContainer[0], new double[0]);
+
+  private static final char WEIGHT_SEPARATOR = '*';
+
+  private final GolemContainer[] options;
+  /** Chance to keep each column instead of using its alias **/
+  private final double[] probability;
+  private final int[] alias;
+
+  private WeightedGolemTable(final GolemContainer[] lOptions, final double[] weights) {
+    this.options = lOptions;
+    this.probability = new double[lOptions.length];
+    this.alias = new int[lOptions.length];
+    buildAliasTable(weights);
+  }
+
+  /**
+   * Reads each config entry and reports any entries that can not be used.
+   *
+   * @param entries the config entries, in the form {@code "modid:golem"} or
+   *                {@code "modid:golem*weight"}
+   * @return a new table, which may be empty
+   **/
+  public static WeightedGolemTable compile(final Collection<? extends String> entries) {
+    final Map<GolemContainer, Double> weights = new LinkedHashMap<>();
+    for (final String entry : entries) {
+      if (entry == null || entry.trim().isEmpty()) {
+        continue;
+      }
+      final String s = entry.trim();
+      final int split = s.lastIndexOf(WEIGHT_SEPARATOR);
+      double weight = 1.0D;
+      final ResourceLocation name;
+      try {
+        if (split >= 0) {
+          weight = Double.parseDouble(s.substring(split + 1).trim());
+        }
+        name = new ResourceLocation(split >= 0 ? s.substring(0, split).trim() : s);
+      } catch (final NumberFormatException | ResourceLocationException e) {
+        ExtraGolems.LOGGER.warn("Skipping villager golem entry '%s': %s", s, e.getMessage());
+        continue;
+      }
+      if (!(weight > 0) || Double.isInfinite(weight)) {
+        ExtraGolems.LOGGER.warn("Skipping villager golem entry '%s': weight must be a positive number", s);
+        continue;
+      }
+      final GolemContainer container = GolemRegistrar.getContainer(name);
+      if (container == null) {
+        ExtraGolems.LOGGER.warn("Skipping villager golem entry '%s': no golem named '%s'", s, name);
+        continue;
+      }
+      weights.merge(container, weight, Double::sum);
+    }
+    if (weights.isEmpty()) {
+      return EMPTY;
+    }
+    final GolemContainer[] options = weights.keySet().toArray(new GolemContainer[0]);
+    final double[] w = new double[options.length];
+    for (int i = 0; i < options.length; i++) {
+      w[i] = weights.get(options[i]);
+    }
+    return new WeightedGolemTable(options, w);
+  }
+
+  /**
+   * Builds the alias table using Vose's method.
+   *
+   * @param weights the weight of each option
+   **/
+  private void buildAliasTable(final double[] weights) {
+    final int n = weights.length;
+    double total = 0;
+    for (final double w : weights) {
+      total += w;
+    }
+    final double[] scaled = new double[n];
+    final Deque<Integer> small = new ArrayDeque<>();
+    final Deque<Integer> large = new ArrayDeque<>();
+    for (int i = 0; i < n; i++) {
+      scaled[i] = weights[i] * n / total;
+      (scaled[i] < 1.0D ? small : large).push(i);
+    }
+    while (!small.isEmpty() && !large.isEmpty()) {
+      final int s = small.pop();
+      final int l = large.pop();
+      probability[s] = scaled[s];
+      alias[s] = l;
+      scaled[l] = (scaled[l] + scaled[s]) - 1.0D;
+      (scaled[l] < 1.0D ? small : large).push(l);
+    }
+    // anything left over is (within rounding) exactly 1
+    while (!large.isEmpty()) {
+      probability[large.pop()] = 1.0D;
+    }
+    while (!small.isEmpty()) {
+      probability[small.pop()] = 1.0D;
+    }
+  }
+
+  /**
+   * @param rand a Random instance
+   * @return a random golem based on the weights, or null if the table is empty
+   **/
+  @Nullable
+  public GolemContainer sample(final Random rand) {
+    if (options.length == 0) {
+      return null;
+    }
+    final int column = rand.nextInt(options.length);
+    return rand.nextDouble() < probability[column] ? options[column] : options[alias[column]];
+  }
+
+  /** @return true if there are no golems in this table **/
+  public boolean isEmpty() {
+    return options.length == 0;
+  }
+
+  /** @return each golem in the table once, in the order they were first listed **/
+  public List<GolemContainer> getOptions() {
+    return ImmutableList.copyOf(options);
+  }
+}
@@ -0,0 +1,181 @@
+package com.mcmoddev.golems.util.config.special;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableSet;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Immutable, typed copy of the special config values of a single golem. Each
+ * value is stored once as a boolean, an int, and a double so that golems can
+ * read them without going through the config spec or unboxing. A new snapshot
+ * is compiled for every golem each time the config is loaded, and the global
+ * version is increased so that golems know to pick up the new snapshot.
+ **/
+public final class GolemSpecialSnapshot {
+
+  /** Increased after every golem has a new snapshot **/
+  private static volatile int currentVersion = 0;
+
+  private final int version;
+  private final Object2IntOpenHashMap<String> slots;
+  private final String[] names;
+  private final boolean[] booleans;
+  private final int[] ints;
+  private final double[] doubles;
+  private final Object[] values;
+
+  private GolemSpecialSnapshot(final int lVersion, final Object2IntOpenHashMap<String> lSlots, final String[] lNames, final Object[] lValues) {
+    this.version = lVersion;
+    this.slots = lSlots;
+    this.names = lNames;
+    this.values = lValues;
+    this.booleans = new boolean[lValues.length];
+    this.ints = new int[lValues.length];
+    this.doubles = new double[lValues.length];
+    for (int i = 0; i < lValues.length; i++) {
+      final Object v = lValues[i];
+      if (v instanceof Boolean) {
+        booleans[i] = ((Boolean) v).booleanValue();
+      } else if (v instanceof Number) {
+        ints[i] = ((Number) v).intValue();
+        doubles[i] = ((Number) v).doubleValue();
+      }
+    }
+  }
+
+  /**
+   * @param specials the special containers of a golem
+   * @param getter   finds the current value of each special container
+   * @param version  the version that this snapshot belongs to
+   * @return a new snapshot of the current special values
+   **/
+  @SuppressWarnings("rawtypes")
+  public static GolemSpecialSnapshot compile(final Collection<GolemSpecialContainer> specials,
+      final Function<GolemSpecialContainer, Object> getter, final int version) {
+    final Object2IntOpenHashMap<String> slots = new Object2IntOpenHashMap<>(specials.size());
+    slots.defaultReturnValue(-1);
+    final String[] names = new String[specials.size()];
+    final Object[] values = new Object[specials.size()];
+    int i = 0;
+    for (final GolemSpecialContainer c : specials) {
+      slots.put(c.name, i);
+      names[i] = c.name;
+      values[i++] = getter.apply(c);
+    }
+    slots.trim();
+    return new GolemSpecialSnapshot(version, slots, names, values);
+  }
+
+  /** @return the version of the most recently compiled snapshots **/
+  public static int getCurrentVersion() { return currentVersion; }
+
+  /**
+   * Tells golems that every golem has a new snapshot.
+   *
+   * @return the new version number
+   **/
+  public static synchronized int nextVersion() {
+    return ++currentVersion;
+  }
+
+  /** @return the version that this snapshot belongs to **/
+  public int getVersion() { return version; }
+
+  /**
+   * Finds the slot of a special so that it can be read without looking up its
+   * name each time. Every snapshot of the same golem uses the same slots, so the
+   * slot can be resolved once and kept after the config is loaded again.
+   *
+   * @param name the name of a special
+   * @return the slot of the special, or -1 if this golem has no such special
+   **/
+  public int getSlot(final String name) {
+    return slots.getInt(name);
+  }
+
+  /**
+   * @param name the name of a special
+   * @return true if this golem has a special with the given name
+   **/
+  public boolean has(final String name) {
+    return slots.getInt(name) >= 0;
+  }
+
+  /**
+   * @param name the name of a special
+   * @return the value of the special, or false if it is missing or not a boolean
+   **/
+  public boolean getBoolean(final String name) {
+    return getBoolean(slots.getInt(name));
+  }
+
+  /**
+   * @param slot the slot of a special, from {@link #getSlot(String)}
+   * @return the value of the special, or false if it is missing or not a boolean
+   **/
+  public boolean getBoolean(final int slot) {
+    return slot >= 0 && booleans[slot];
+  }
+
+  /**
+   * @param name the name of a special
+   * @return the value of the special, or 0 if it is missing or not a number
+   **/
+  public int getInt(final String name) {
+    return getInt(slots.getInt(name));
+  }
+
+  /**
+   * @param slot the slot of a special, from {@link #getSlot(String)}
+   * @return the value of the special, or 0 if it is missing or not a number
+   **/
+  public int getInt(final int slot) {
+    return slot >= 0 ? ints[slot] : 0;
+  }
+
+  /**
+   * @param name the name of a special
+   * @return the value of the special, or 0 if it is missing or not a number
+   **/
+  public double getDouble(final String name) {
+    return getDouble(slots.getInt(name));
+  }
+
+  /**
+   * @param slot the slot of a special, from {@link #getSlot(String)}
+   * @return the value of the special, or 0 if it is missing or not a number
+   **/
+  public double getDouble(final int slot) {
+    return slot >= 0 ? doubles[slot] : 0.0D;
+  }
+
+  /**
+   * @param previous an older snapshot of the same golem
+   * @return the names of every special whose value is different in this snapshot
+   **/
+  public ImmutableSet<String> getChanges(final GolemSpecialSnapshot previous) {
+    final ImmutableSet.Builder<String> changes = ImmutableSet.builder();
+    for (int i = 0; i < names.length; i++) {
+      if (!previous.has(names[i]) || !Objects.equals(values[i], previous.get(names[i]))) {
+        changes.add(names[i]);
+      }
+    }
+    return changes.build();
+  }
+
+  /**
+   * @param name the name of a special
+   * @return the value of the special, or null if it is missing
+   **/
+  @Nullable
+  public Object get(final String name) {
+    final int slot = slots.getInt(name);
+    return slot >= 0 ? values[slot] : null;
+  }
+}
@@ -1,11 +1,15 @@
 package com.mcmoddev.golems_hwyla;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 
+import com.google.common.collect.ImmutableList;
 import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.integration.GolemDescriptionManager;
 import com.mcmoddev.golems.main.ExtraGolems;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
 import mcp.mobius.waila.api.IEntityAccessor;
 import mcp.mobius.waila.api.IEntityComponentProvider;
 import mcp.mobius.waila.api.IPluginConfig;
@@ -13,6 +17,7 @@ import mcp.mobius.waila.api.IRegistrar;
 import mcp.mobius.waila.api.IWailaPlugin;
 import mcp.mobius.waila.api.TooltipPosition;
 import mcp.mobius.waila.api.WailaPlugin;
+import net.minecraft.entity.ai.attributes.Attributes;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.StringTextComponent;
 
@@ -24,6 +29,21 @@ public final class WailaExtraGolems extends GolemDescriptionManager implements I
 
   public static final WailaExtraGolems INSTANCE = new WailaExtraGolems();
 
+  /** Raw mod names and the names to display instead **/
+  private static final String[][] MOD_NAMES = {
+      { "golems_quark", "Extra Golems: Quark" },
+      { "golems_thermal", "Extra Golems: Thermal" },
+      { "golems_ie", "Extra Golems: Imm. Engineering" },
+      { "golems_clib", "Extra Golems: CLib" },
+      { "golems_mekanism", "Extra Golems: Mekanism" },
+      { "golems_misc", "Extra Golems: Etc" } };
+
+  /** Removed golems are dropped from the cache when it grows past this many golems **/
+  private static final int MAX_CACHED = 64;
+
+  /** Tooltips of recently viewed golems, by entity ID. Does not keep the golems loaded. **/
+  private final Int2ObjectOpenHashMap<CachedTooltip> cache = new Int2ObjectOpenHashMap<>();
+
   public WailaExtraGolems() {
     super();
   }
@@ -34,31 +54,35 @@ public final class WailaExtraGolems extends GolemDescriptionManager implements I
     this.showAttack = isShiftDown();
     if (accessor.getEntity() instanceof GolemBase) {
       final GolemBase golem = (GolemBase) accessor.getEntity();
-      tooltip.addAll(this.getEntityDescription(golem));
+      tooltip.addAll(getCachedTooltip(golem).body);
     }
   }
 
   @Override
   public void appendTail(List<ITextComponent> tooltip, IEntityAccessor accessor, IPluginConfig config) {
+    if (!(accessor.getEntity() instanceof GolemBase)) {
+      return;
+    }
+    final CachedTooltip cached = getCachedTooltip((GolemBase) accessor.getEntity());
+    // reuse the last replacement if the tooltip has the same text
+    if (cached.tailIndex >= 0 && cached.tailIndex < tooltip.size()
+        && cached.tailSource.equals(tooltip.get(cached.tailIndex).getUnformattedComponentText())) {
+      tooltip.set(cached.tailIndex, cached.tailReplacement);
+      return;
+    }
     // Fix the mod name displayed in Waila tooltip
     for(int i = 0, l = tooltip.size(); i < l; i++) {
-      if(replaceFirst(tooltip, i, "golems_quark", "Extra Golems: Quark")) {
-        return;
-      }
-      if(replaceFirst(tooltip, i, "golems_thermal", "Extra Golems: Thermal")) {
-        return;
-      }
-      if(replaceFirst(tooltip, i, "golems_ie", "Extra Golems: Imm. Engineering")) {
-        return;
-      }
-      if(replaceFirst(tooltip, i, "golems_clib", "Extra Golems: CLib")) {
-        return;
-      }
-      if(replaceFirst(tooltip, i, "golems_mekanism", "Extra Golems: Mekanism")) {
-        return;
-      }
-      if(replaceFirst(tooltip, i, "golems_misc", "Extra Golems: Etc")) {
-        return;
+      final ITextComponent old = tooltip.get(i);
+      final String s = old.getUnformattedComponentText();
+      for(final String[] name : MOD_NAMES) {
+        if(s.contains(name[0])) {
+          final ITextComponent replace = replaceFirst(old, s, name[0], name[1]);
+          tooltip.set(i, replace);
+          cached.tailIndex = i;
+          cached.tailSource = s;
+          cached.tailReplacement = replace;
+          return;
+        }
       }
     }
   }
@@ -68,20 +92,76 @@ public final class WailaExtraGolems extends GolemDescriptionManager implements I
     register.registerComponentProvider((IEntityComponentProvider) INSTANCE, TooltipPosition.BODY, GolemBase.class);
     register.registerComponentProvider((IEntityComponentProvider) INSTANCE, TooltipPosition.TAIL, GolemBase.class);
   }
-  
-  protected boolean replaceFirst(final List<ITextComponent> list, final int index, 
+
+  /**
+   * Builds the tooltip again only if the golem's synced values, its attack
+   * damage, the shift key, or the shared golem descriptions have changed.
+   *
+   * @param golem the golem being looked at
+   * @return the cached tooltip for the golem
+   **/
+  private CachedTooltip getCachedTooltip(final GolemBase golem) {
+    final List<?> descriptions = golem.getGolemContainer().getDescriptions();
+    final double attack = golem.getAttribute(Attributes.ATTACK_DAMAGE).getValue();
+    CachedTooltip cached = cache.get(golem.getEntityId());
+    if (cached == null || cached.golem.get() != golem || cached.version != golem.getDescriptionVersion()
+        || cached.shift != showAttack || cached.attack != attack || cached.descriptions != descriptions) {
+      if (cache.size() >= MAX_CACHED) {
+        pruneCache();
+      }
+      cached = new CachedTooltip(golem, showAttack, attack, descriptions, ImmutableList.<ITextComponent>copyOf(getEntityDescription(golem)));
+      cache.put(golem.getEntityId(), cached);
+    }
+    return cached;
+  }
+
+  /**
+   * Removes the tooltips of golems that were removed or unloaded, or every
+   * tooltip if all of the golems are still loaded.
+   **/
+  private void pruneCache() {
+    cache.values().removeIf(cached -> {
+      final GolemBase golem = cached.golem.get();
+      return golem == null || golem.removed;
+    });
+    if (cache.size() >= MAX_CACHED) {
+      cache.clear();
+    }
+  }
+
+  protected ITextComponent replaceFirst(final ITextComponent old, final String text,
       final String key, final String replacement) {
     // replace the raw text with a mod name
-    ITextComponent old = list.get(index);
-    String s = old.getUnformattedComponentText();
-    if(s.contains(key)) {
-      s = s.replaceFirst(key, replacement);
-      ITextComponent replace = new StringTextComponent(s);
-      // copy siblings
-      replace.getSiblings().addAll(old.getSiblings());
-      list.set(index, replace);
-      return true;
+    final int index = text.indexOf(key);
+    final ITextComponent replace = new StringTextComponent(text.substring(0, index) + replacement + text.substring(index + key.length()));
+    // copy siblings
+    replace.getSiblings().addAll(old.getSiblings());
+    return replace;
+  }
+
+  /**
+   * The tooltip of a single golem along with the values it was built from.
+   **/
+  private static final class CachedTooltip {
+    private final WeakReference<GolemBase> golem;
+    private final int version;
+    private final boolean shift;
+    private final double attack;
+    private final List<?> descriptions;
+    private final ImmutableList<ITextComponent> body;
+    /** The mod name line, or -1 if it has not been replaced yet **/
+    private int tailIndex = -1;
+    private String tailSource = "";
+    private ITextComponent tailReplacement;
+
+    private CachedTooltip(final GolemBase lGolem, final boolean lShift, final double lAttack, final List<?> lDescriptions,
+        final ImmutableList<ITextComponent> lBody) {
+      this.golem = new WeakReference<>(lGolem);
+      this.version = lGolem.getDescriptionVersion();
+      this.shift = lShift;
+      this.attack = lAttack;
+      this.descriptions = lDescriptions;
+      this.body = lBody;
     }
-    return false;
   }
 }
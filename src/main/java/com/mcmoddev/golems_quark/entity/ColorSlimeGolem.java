@@ -6,6 +6,7 @@ import java.util.Map;
 import com.mcmoddev.golems.entity.base.GolemBase;
 import com.mcmoddev.golems.entity.base.GolemMultiTextured;
 import com.mcmoddev.golems.util.GolemTextureBytes;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 import com.mcmoddev.golems_quark.QuarkGolemsEntities;
 
 import net.minecraft.block.Block;
@@ -42,6 +43,13 @@ public class ColorSlimeGolem extends GolemMultiTextured {
     knockbackAmount = this.getConfigDouble(KNOCKBACK);
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    allowKnockback = this.getConfigBool(ALLOW_SPECIAL);
+    knockbackAmount = this.getConfigDouble(KNOCKBACK);
+  }
+
   @Override
   public boolean attackEntityAsMob(final Entity entity) {
     if (super.attackEntityAsMob(entity)) {
@@ -1,6 +1,7 @@
 package com.mcmoddev.golems_thermal.entity;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.entity.EntityType;
 import net.minecraft.util.DamageSource;
@@ -16,6 +17,12 @@ public class HardenedGlassGolem extends GolemBase {
     super(type, world);
     resist = getConfigBool(ALLOW_RESIST);
   }
+
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    resist = getConfigBool(ALLOW_RESIST);
+  }
   
   @Override
   protected void damageEntity(DamageSource source, float amount) {
@@ -1,6 +1,7 @@
 package com.mcmoddev.golems_thermal.entity;
 
 import com.mcmoddev.golems.entity.base.GolemBase;
+import com.mcmoddev.golems.util.config.GolemConfigDelta;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -22,6 +23,13 @@ public class RubberGolem extends GolemBase {
     knockbackAmount = this.getConfigDouble(KNOCKBACK);
   }
 
+  @Override
+  public void onConfigChanged(final GolemConfigDelta delta) {
+    super.onConfigChanged(delta);
+    allowKnockback = this.getConfigBool(ALLOW_SPECIAL);
+    knockbackAmount = this.getConfigDouble(KNOCKBACK);
+  }
+
   @Override
   public boolean attackEntityAsMob(final Entity entity) {
     if (super.attackEntityAsMob(entity)) {
@@ -40,7 +48,7 @@ public class RubberGolem extends GolemBase {
       super.damageEntity(source, amount);
       // knocks back the entity that is attacking it
       if (allowKnockback && !this.isChild() && source.getImmediateSource() != null) {
-        applyKnockback(source.getImmediateSource(), this.getConfigDouble(KNOCKBACK));
+        applyKnockback(source.getImmediateSource(), knockbackAmount);
       }
     }
   }